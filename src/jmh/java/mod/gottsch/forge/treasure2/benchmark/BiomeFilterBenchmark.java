@@ -0,0 +1,89 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.gottsch.forge.treasure2.core.biome.TreasureBiomeHelper;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * TreasureBiomeHelper.isBiomeAllowed() against white/black lists the size of typical configs.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BiomeFilterBenchmark {
+	private static final int PROBES = 64;
+
+	@Param({"10", "60"})
+	public int listSize;
+
+	private List<String> whiteList;
+	private List<String> blackList;
+	private List<String> emptyList;
+	private ResourceLocation[] biomes;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		whiteList = new ArrayList<>();
+		blackList = new ArrayList<>();
+		emptyList = new ArrayList<>();
+		for (int i = 0; i < listSize; i++) {
+			whiteList.add("minecraft:biome_" + i);
+			blackList.add("othermod:biome_" + i);
+		}
+		// half of the probes are listed
+		biomes = new ResourceLocation[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			biomes[i] = new ResourceLocation(i % 2 == 0 ? "minecraft" : "othermod", "biome_" + (i * 7 % (listSize * 2)));
+		}
+	}
+
+	@Benchmark
+	public TreasureBiomeHelper.Result whiteListed() {
+		return TreasureBiomeHelper.isBiomeAllowed(biomes[index++ & (PROBES - 1)], whiteList, emptyList);
+	}
+
+	@Benchmark
+	public TreasureBiomeHelper.Result blackListed() {
+		return TreasureBiomeHelper.isBiomeAllowed(biomes[index++ & (PROBES - 1)], emptyList, blackList);
+	}
+}
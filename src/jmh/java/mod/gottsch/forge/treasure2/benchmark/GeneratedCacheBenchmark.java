@@ -0,0 +1,115 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.gottsch.neo.gottschcore.enums.IRarity;
+import mod.gottsch.neo.gottschcore.spatial.Coords;
+import mod.gottsch.neo.gottschcore.spatial.ICoords;
+import mod.gottsch.forge.treasure2.core.enums.Rarity;
+import mod.gottsch.forge.treasure2.core.registry.GeneratedCache;
+import mod.gottsch.forge.treasure2.core.registry.support.GeneratedChestContext;
+
+/**
+ * GeneratedCache.withinArea() (the chest spacing check run for every feature attempt)
+ * and GeneratedCache.cache() (registration, including eviction once the cache is full).
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedCacheBenchmark {
+	private static final IRarity[] RARITIES = {Rarity.COMMON, Rarity.UNCOMMON, Rarity.SCARCE, Rarity.RARE, Rarity.EPIC};
+	private static final int PROBES = 1024;
+
+	@Param({"500", "5000"})
+	public int cacheSize;
+
+	/*
+	 * the spread of the chests, in blocks, around the origin
+	 */
+	@Param({"20000"})
+	public int spread;
+
+	@Param({"75"})
+	public int spacing;
+
+	private GeneratedCache<GeneratedChestContext> cache;
+	private ICoords[] probes;
+	private ICoords[] inserts;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42L);
+		cache = new GeneratedCache<>(cacheSize);
+		for (int i = 0; i < cacheSize; i++) {
+			ICoords coords = randomCoords(random);
+			IRarity rarity = RARITIES[random.nextInt(RARITIES.length)];
+			cache.cache(rarity, coords, new GeneratedChestContext(rarity, coords));
+		}
+
+		probes = new ICoords[PROBES];
+		inserts = new ICoords[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			probes[i] = randomCoords(random);
+			inserts[i] = randomCoords(random);
+		}
+	}
+
+	@Benchmark
+	public boolean withinArea() {
+		ICoords coords = probes[index++ & (PROBES - 1)];
+		return cache.withinArea(coords.add(-spacing, 0, -spacing), coords.add(spacing, 0, spacing));
+	}
+
+	@Benchmark
+	public GeneratedCache<GeneratedChestContext> cache() {
+		int i = index++;
+		ICoords coords = inserts[i & (PROBES - 1)];
+		// shift each pass so the keys stay unique and the cache keeps evicting
+		coords = coords.add(0, 0, (i / PROBES) * spread * 2);
+		IRarity rarity = RARITIES[i % RARITIES.length];
+		cache.cache(rarity, coords, new GeneratedChestContext(rarity, coords));
+		return cache;
+	}
+
+	private ICoords randomCoords(Random random) {
+		return new Coords(random.nextInt(spread * 2) - spread, 64, random.nextInt(spread * 2) - spread);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.benchmark;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+
+import mod.gottsch.neo.gottschcore.enums.IRarity;
+import mod.gottsch.neo.gottschcore.loot.LootTableShell;
+import mod.gottsch.forge.treasure2.api.TreasureApi;
+import mod.gottsch.forge.treasure2.core.enums.LootTableType;
+import mod.gottsch.forge.treasure2.core.enums.Rarity;
+import mod.gottsch.forge.treasure2.core.registry.TreasureLootTableRegistry;
+
+/**
+ * TreasureLootTableRegistry.getLootTableByRarity() - the mod/datapack table merge performed for every chest fill.
+ * The registry is populated with empty shells at synthetic paths; no files are read and no game
+ * registries are needed, so this runs without the Minecraft bootstrap.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LootTableRegistryBenchmark {
+	private static final IRarity[] RARITIES = {Rarity.COMMON, Rarity.UNCOMMON, Rarity.SCARCE, Rarity.RARE, Rarity.EPIC};
+
+	@Param({"10", "40"})
+	public int tablesPerRarity;
+
+	/*
+	 * the number of mod tables per rarity that are overridden by a datapack
+	 */
+	@Param({"0", "5"})
+	public int datapackTablesPerRarity;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		for (IRarity rarity : RARITIES) {
+			TreasureApi.registerRarity(rarity);
+		}
+		TreasureLootTableRegistry.clearDatapacks();
+
+		// synthetic shells - the plain gson only populates the shell fields, unlike the registry's loot table deserializers
+		Gson gson = new Gson();
+		TreasureLootTableRegistry.Batch batch = TreasureLootTableRegistry.beginBatch();
+		for (IRarity rarity : RARITIES) {
+			String folder = rarity.getValue().toLowerCase();
+			for (int i = 0; i < tablesPerRarity; i++) {
+				Path path = Paths.get("data", "treasure2", "loot_tables", "chests", folder, "table_" + i + ".json");
+				batch.registerLootTable(LootTableType.CHESTS, path, Optional.of(gson.fromJson("{}", LootTableShell.class)));
+			}
+			for (int i = 0; i < datapackTablesPerRarity; i++) {
+				Path path = Paths.get("data", "treasure2", "loot_tables", "chests", folder, "table_" + i + ".json");
+				batch.registerDatapacksLootTable(LootTableType.CHESTS, path, Optional.of(gson.fromJson("{}", LootTableShell.class)));
+			}
+		}
+		batch.publish();
+	}
+
+	@Benchmark
+	public List<LootTableShell> getLootTableByRarity() {
+		return TreasureLootTableRegistry.getLootTableByRarity(LootTableType.CHESTS, RARITIES[index++ % RARITIES.length]);
+	}
+}
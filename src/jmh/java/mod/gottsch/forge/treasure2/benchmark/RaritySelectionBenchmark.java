@@ -0,0 +1,99 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.gottsch.neo.gottschcore.enums.IRarity;
+import mod.gottsch.forge.treasure2.core.enums.Rarity;
+import mod.gottsch.forge.treasure2.core.random.RarityLevelWeightedCollection;
+import mod.gottsch.forge.treasure2.core.registry.RarityLevelWeightedChestGeneratorRegistry;
+import mod.gottsch.forge.treasure2.core.world.feature.FeatureType;
+import mod.gottsch.forge.treasure2.core.world.feature.IFeatureType;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * The chest rarity selection performed for every generated chest:
+ * RarityLevelWeightedCollection.next() and RarityLevelWeightedChestGeneratorRegistry.adjustAllWeightsExcept().
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RaritySelectionBenchmark {
+	private static final ResourceLocation DIMENSION = new ResourceLocation("minecraft", "overworld");
+	private static final IRarity[] RARITIES = {Rarity.COMMON, Rarity.UNCOMMON, Rarity.SCARCE, Rarity.RARE, Rarity.EPIC};
+	// the default weights from the chests config
+	private static final int[] WEIGHTS = {50, 25, 15, 8, 2};
+
+	private RarityLevelWeightedCollection collection;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		collection = newCollection();
+
+		Map<IFeatureType, RarityLevelWeightedCollection> map = new HashMap<>();
+		map.put(FeatureType.TERRANEAN, newCollection());
+		RarityLevelWeightedChestGeneratorRegistry.RARITY_SELECTOR.put(DIMENSION, map);
+	}
+
+	@Benchmark
+	public IRarity next() {
+		return collection.next();
+	}
+
+	@Benchmark
+	public IRarity nextAndAdjust() {
+		IRarity rarity = RarityLevelWeightedChestGeneratorRegistry.getNextRarity(DIMENSION, FeatureType.TERRANEAN);
+		RarityLevelWeightedChestGeneratorRegistry.adjustAllWeightsExcept(DIMENSION, FeatureType.TERRANEAN, 1, rarity);
+		// periodically reset so the weights don't grow without bound across the measurement
+		if ((++index & 0xFFFF) == 0) {
+			RarityLevelWeightedChestGeneratorRegistry.RARITY_SELECTOR.get(DIMENSION).put(FeatureType.TERRANEAN, newCollection());
+		}
+		return rarity;
+	}
+
+	private RarityLevelWeightedCollection newCollection() {
+		RarityLevelWeightedCollection col = new RarityLevelWeightedCollection(new Random(42L));
+		for (int i = 0; i < RARITIES.length; i++) {
+			col.add(WEIGHTS[i], RARITIES[i]);
+		}
+		return col;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.gottsch.neo.gottschcore.spatial.Coords;
+import mod.gottsch.neo.gottschcore.spatial.ICoords;
+import mod.gottsch.forge.treasure2.core.cache.SimpleDistanceCache;
+
+/**
+ * SimpleDistanceCache.isCached() for hits and misses, as used by the well and wither tree caches.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleDistanceCacheBenchmark {
+	private static final int PROBES = 1024;
+
+	@Param({"100", "1000"})
+	public int cacheSize;
+
+	private SimpleDistanceCache<ICoords> cache;
+	private ICoords[] hits;
+	private ICoords[] misses;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42L);
+		cache = new SimpleDistanceCache<>(cacheSize);
+		ICoords[] cached = new ICoords[cacheSize];
+		for (int i = 0; i < cacheSize; i++) {
+			cached[i] = new Coords(random.nextInt(40000) - 20000, 64, random.nextInt(40000) - 20000);
+			cache.cache(cached[i], cached[i]);
+		}
+
+		hits = new ICoords[PROBES];
+		misses = new ICoords[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			// equal but not identical instances, as the callers create new coords
+			ICoords hit = cached[random.nextInt(cacheSize)];
+			hits[i] = new Coords(hit.getX(), hit.getY(), hit.getZ());
+			misses[i] = new Coords(random.nextInt(40000) + 40000, 64, random.nextInt(40000) + 40000);
+		}
+	}
+
+	@Benchmark
+	public boolean isCachedHit() {
+		return cache.isCached(hits[index++ & (PROBES - 1)]);
+	}
+
+	@Benchmark
+	public boolean isCachedMiss() {
+		return cache.isCached(misses[index++ & (PROBES - 1)]);
+	}
+}
@@ -172,6 +172,7 @@ public class CauldronChestMimicModel<T extends Entity> extends EntityModel<T> {
 	@Override
 	public void setupAnim(T entity, float limbSwing, float limbSwingAmount, float ageInTicks, float netHeadYaw, float headPitch) {
 		CauldronChestMimic mimic = (CauldronChestMimic)entity;
+		float lidAmount = mimic.getAmount(ageInTicks - mimic.tickCount);
 		if (mimic.isActive()) {
 			body.xRot = 0.2618F; // 15 degrees
 			frontLeg1.xRot = body.xRot;
@@ -181,7 +182,7 @@ public class CauldronChestMimicModel<T extends Entity> extends EntityModel<T> {
 			
 			// chomp lid
 			if (mimic.hasTarget()) {
-				lid.xRot = mimic.getAmount() * -0.7854F; // TODO could use sin or cos method like legs
+				lid.xRot = lidAmount * -0.7854F; // TODO could use sin or cos method like legs
 			}
 			else {
 //				lid.xRot = -degToRad(22.5f);
@@ -211,24 +212,24 @@ public class CauldronChestMimicModel<T extends Entity> extends EntityModel<T> {
 			bob(spike3, ageInTicks, 0.26f, -1);
 			
 		} else {
-			if (mimic.getAmount() < 1F) {
-				body.xRot = mimic.getAmount() * 0.2618F;
+			if (lidAmount < 1F) {
+				body.xRot = lidAmount * 0.2618F;
 				frontLeg1.xRot = body.xRot;
 				frontLeg2.xRot = body.xRot;
 				backLeg1.xRot = body.xRot;
 				backLeg2.xRot = body.xRot;				
 				
-				lid.xRot = mimic.getAmount() * -0.7854F;
-				rightLid.zRot = mimic.getAmount() * -2.26893F; //130
+				lid.xRot = lidAmount * -0.7854F;
+				rightLid.zRot = lidAmount * -2.26893F; //130
 				leftLid.zRot = -rightLid.zRot;
-				spike1.xRot =  mimic.getAmount() * 1.13446F; // 65
-				spike2.xRot =  mimic.getAmount() * 0.959931F; //
-				spike3.xRot = mimic.getAmount() * 0.7854F; // 45
+				spike1.xRot =  lidAmount * 1.13446F; // 65
+				spike2.xRot =  lidAmount * 0.959931F; //
+				spike3.xRot = lidAmount * 0.7854F; // 45
 				
-				eye1.xRot = mimic.getAmount() * -1.003564F;
+				eye1.xRot = lidAmount * -1.003564F;
 				eye2.xRot = eye1.xRot;
 				eye3.xRot = eye1.xRot;
-				tongue.xRot = mimic.getAmount() * -0.174533F;
+				tongue.xRot = lidAmount * -0.174533F;
 			}
 		}
 	}
@@ -134,12 +134,13 @@ public class CrateChestMimicModel<T extends Entity> extends EntityModel<T> {
 	@Override
 	public void setupAnim(T entity, float limbSwing, float limbSwingAmount, float ageInTicks, float netHeadYaw, float headPitch) {
 		CrateChestMimic mimic = (CrateChestMimic)entity;
+		float lidAmount = mimic.getAmount(ageInTicks - mimic.tickCount);
 		if (mimic.isActive()) {
 			body.xRot = 0.2618F; // 15 degrees
 			
 			// chomp lid
 			if (mimic.hasTarget()) {
-				lid.xRot = -degToRad(mimic.getAmount() * 45);
+				lid.xRot = -degToRad(lidAmount * 45);
 			} else {
 //				lid.xRot = -degToRad(22.5f);
 				bobMouth(lid, 22.5f, 25f, ageInTicks);
@@ -151,13 +152,13 @@ public class CrateChestMimicModel<T extends Entity> extends EntityModel<T> {
 			
 			bob(body, bodyY, ageInTicks);
 		} else {
-			if (mimic.getAmount() < 1F) {
-				body.xRot = mimic.getAmount() * 0.2618F;
-				lid.xRot = mimic.getAmount() * -0.7854F;
-				eye1.xRot = mimic.getAmount() * -1.003564F;
-				eyeSocket.xRot = mimic.getAmount() * -0.174533F;
-				tongue.xRot = mimic.getAmount() * -0.174533F;
-				bigTeeth.xRot = mimic.getAmount() * 0.174533F;
+			if (lidAmount < 1F) {
+				body.xRot = lidAmount * 0.2618F;
+				lid.xRot = lidAmount * -0.7854F;
+				eye1.xRot = lidAmount * -1.003564F;
+				eyeSocket.xRot = lidAmount * -0.174533F;
+				tongue.xRot = lidAmount * -0.174533F;
+				bigTeeth.xRot = lidAmount * 0.174533F;
 			}
 		}
 	}
@@ -144,12 +144,13 @@ public class VikingChestMimicModel<T extends Entity> extends EntityModel<T> {
 	@Override
 	public void setupAnim(T entity, float limbSwing, float limbSwingAmount, float ageInTicks, float netHeadYaw, float headPitch) {
 		VikingChestMimic mimic = (VikingChestMimic)entity;
+		float lidAmount = mimic.getAmount(ageInTicks - mimic.tickCount);
 		if (mimic.isActive()) {
 			body.xRot = 0.2618F; // 15 degrees
 
 			// chomp lid
 			if (mimic.hasTarget()) {
-				lid.xRot = -degToRad(mimic.getAmount() * 45);
+				lid.xRot = -degToRad(lidAmount * 45);
 			} else {
 //				lid.xRot = -degToRad(22.5f);
 				bobMouth(lid, 22.5f, 25f, ageInTicks);
@@ -161,13 +162,13 @@ public class VikingChestMimicModel<T extends Entity> extends EntityModel<T> {
 
 			bob(body, bodyY, ageInTicks);
 		} else {
-			if (mimic.getAmount() < 1F) {
-				body.xRot = mimic.getAmount() * 0.2618F;
-				lid.xRot = mimic.getAmount() * -0.7854F;
-				topLatch.xRot = mimic.getAmount() * -0.2618F;
-				frontLatch.xRot = mimic.getAmount() * 3.14159F;
-				eye1.xRot = mimic.getAmount() * -1.003564F;
-				tongue.xRot = mimic.getAmount() * -0.174533F;
+			if (lidAmount < 1F) {
+				body.xRot = lidAmount * 0.2618F;
+				lid.xRot = lidAmount * -0.7854F;
+				topLatch.xRot = lidAmount * -0.2618F;
+				frontLatch.xRot = lidAmount * 3.14159F;
+				eye1.xRot = lidAmount * -1.003564F;
+				tongue.xRot = lidAmount * -0.174533F;
 			}
 		}
 	}
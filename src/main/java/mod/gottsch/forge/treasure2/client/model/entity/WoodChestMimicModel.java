@@ -138,12 +138,13 @@ public class WoodChestMimicModel<T extends Entity> extends EntityModel<T> {
 	@Override
 	public void setupAnim(T entity, float limbSwing, float limbSwingAmount, float ageInTicks, float netHeadYaw, float headPitch) {
 		WoodChestMimic mimic = (WoodChestMimic)entity;
+		float lidAmount = mimic.getAmount(ageInTicks - mimic.tickCount);
 		if (mimic.isActive()) {
 			body.xRot = 0.2618F; // 15 degrees
 			
 			// chomp lid
 			if (mimic.hasTarget()) {
-				lid.xRot = -degToRad(mimic.getAmount() * 45);
+				lid.xRot = -degToRad(lidAmount * 45);
 			} else {
 //				lid.xRot = -degToRad(22.5f);
 				bobMouth(lid, 22.5f, 25f, ageInTicks);
@@ -156,14 +157,14 @@ public class WoodChestMimicModel<T extends Entity> extends EntityModel<T> {
 			
 			bob(body, bodyY, ageInTicks);
 		} else {
-			if (mimic.getAmount() < 1F) {
-				body.xRot = mimic.getAmount() * 0.2618F;
-				lid.xRot = mimic.getAmount() * -0.7854F;
-				latch.xRot = mimic.getAmount() * 2.4870942F;
-				eye1.xRot = mimic.getAmount() * -1.003564F;
+			if (lidAmount < 1F) {
+				body.xRot = lidAmount * 0.2618F;
+				lid.xRot = lidAmount * -0.7854F;
+				latch.xRot = lidAmount * 2.4870942F;
+				eye1.xRot = lidAmount * -1.003564F;
 				eye2.xRot = eye1.xRot;
 				eye3.xRot = eye1.xRot;
-				tongue.xRot = mimic.getAmount() * -0.174533F;
+				tongue.xRot = lidAmount * -0.174533F;
 			}
 		}
 	}
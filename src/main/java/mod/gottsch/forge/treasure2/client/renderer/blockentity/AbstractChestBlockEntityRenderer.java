@@ -20,21 +20,34 @@
 package mod.gottsch.forge.treasure2.client.renderer.blockentity;
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import mod.gottsch.forge.treasure2.client.model.blockentity.ITreasureChestModel;
 import mod.gottsch.forge.treasure2.core.block.StandardChestBlock;
 import mod.gottsch.forge.treasure2.core.block.entity.AbstractTreasureChestBlockEntity;
+import mod.gottsch.forge.treasure2.core.item.LockItem;
+import mod.gottsch.forge.treasure2.core.lock.ILockSlot;
 import mod.gottsch.forge.treasure2.core.lock.LockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
+import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -45,9 +58,20 @@ import net.minecraft.world.level.block.state.BlockState;
  *
  */
 public abstract class AbstractChestBlockEntityRenderer implements BlockEntityRenderer<AbstractTreasureChestBlockEntity>, ITreasureChestBlockEntityRenderer {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	// the lock item stacks, by lock. render thread only.
+	private static final Map<LockItem, ItemStack> LOCK_STACKS = new Reference2ObjectOpenHashMap<>();
+	// the baked lock models, by lock. render thread only.
+	private static final Map<LockItem, BakedLock> BAKED_LOCKS = new Reference2ObjectOpenHashMap<>();
+
 	private ResourceLocation texture;
 	private ITreasureChestModel model;
 	private Material material;
+
+	// the lock transforms of this renderer, by slot
+	private final Map<ILockSlot, SlotTransform> slotTransforms = new WeakHashMap<>();
+	// reused to compose the final lock transform without allocating
+	private final PoseStack scratch = new PoseStack();
 	
 	/**
 	 * render the tile entity - called every frame while the tileentity is in view of the player
@@ -132,35 +156,123 @@ public abstract class AbstractChestBlockEntityRenderer implements BlockEntityRen
 		}
 
 		// render locks
+		ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
 		for (LockState lockState : blockEntity.getLockStates()) {
 
 			if (lockState.getLock() != null) {
 				// convert lock to an item stack
-				ItemStack lockStack = new ItemStack(lockState.getLock());
-				poseStack.pushPose();
-				
-				// NOTE when rotating the item to match the face of chest, must adjust the
-				// amount of offset to the x,z axises and
-				// not rotate() the item - rotate() just spins it in place, not around the axis
-				// of the block
-				poseStack.translate(lockState.getSlot().getXOffset(), lockState.getSlot().getYOffset(), lockState.getSlot().getZOffset());
-
-				updateLockRotation(poseStack, lockState);
-				// PoseStack.mulPose(Vector3f.YP.rotationDegrees(lockState.getSlot().getRotation()));
-				updateLockScale(poseStack);
-				// PoseStack.scale(getLocksScaleModifier(), getLocksScaleModifier(), getLocksScaleModifier());
-				Minecraft.getInstance().getItemRenderer().renderStatic(
-						lockStack, 
-						ItemDisplayContext.NONE,
-						combinedLight, 
-						OverlayTexture.NO_OVERLAY, 
-						poseStack, 
-						renderBuffer,
-						blockEntity.getLevel(),
-						OverlayTexture.NO_OVERLAY);
-				poseStack.popPose();
+				ItemStack lockStack = LOCK_STACKS.get(lockState.getLock());
+				if (lockStack == null) {
+					lockStack = new ItemStack(lockState.getLock());
+					LOCK_STACKS.put(lockState.getLock(), lockStack);
+				}
+				BakedLock bakedLock = getBakedLock(itemRenderer, lockState.getLock(), lockStack, blockEntity.getLevel());
+				SlotTransform slotTransform = getSlotTransform(lockState);
+
+				if (bakedLock == null) {
+					// custom rendered lock - use the full item render path
+					poseStack.pushPose();
+					poseStack.last().pose().mul(slotTransform.pose.pose());
+					poseStack.last().normal().mul(slotTransform.pose.normal());
+					itemRenderer.renderStatic(
+							lockStack, 
+							ItemDisplayContext.NONE,
+							combinedLight, 
+							OverlayTexture.NO_OVERLAY, 
+							poseStack, 
+							renderBuffer,
+							blockEntity.getLevel(),
+							OverlayTexture.NO_OVERLAY);
+					poseStack.popPose();
+					continue;
+				}
+
+				// compose the block entity, slot and model transforms
+				PoseStack.Pose pose = scratch.last();
+				pose.pose().set(poseStack.last().pose()).mul(slotTransform.pose.pose()).mul(bakedLock.transform.pose());
+				pose.normal().set(poseStack.last().normal()).mul(slotTransform.pose.normal()).mul(bakedLock.transform.normal());
+
+				for (BakedLock.Layer layer : bakedLock.layers) {
+					VertexConsumer buffer = renderBuffer.getBuffer(layer.renderType);
+					for (int i = 0; i < layer.quads.length; i++) {
+						int color = layer.colors[i];
+						buffer.putBulkData(pose, layer.quads[i], 
+								(float)(color >> 16 & 255) / 255.0F, (float)(color >> 8 & 255) / 255.0F, (float)(color & 255) / 255.0F,
+								combinedLight, OverlayTexture.NO_OVERLAY);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The slot transform is baked once per slot and rebuilt if the slot is moved (ie. the chest is rotated).
+	 * @param lockState
+	 * @return
+	 */
+	private SlotTransform getSlotTransform(LockState lockState) {
+		ILockSlot slot = lockState.getSlot();
+		SlotTransform transform = slotTransforms.get(slot);
+		if (transform == null || !transform.matches(slot)) {
+			PoseStack stack = new PoseStack();
+			// NOTE when rotating the item to match the face of chest, must adjust the
+			// amount of offset to the x,z axises and
+			// not rotate() the item - rotate() just spins it in place, not around the axis
+			// of the block
+			stack.translate(slot.getXOffset(), slot.getYOffset(), slot.getZOffset());
+			updateLockRotation(stack, lockState);
+			updateLockScale(stack);
+			transform = new SlotTransform(slot, stack.last());
+			slotTransforms.put(slot, transform);
+		}
+		return transform;
+	}
+
+	/**
+	 * Bakes the quads of the lock's item model, equivalent to ItemRenderer.render() for ItemDisplayContext.NONE.
+	 * Rebaked when the item model changes (resource reload).
+	 * @return the baked lock or null if the lock model requires the full item render path
+	 */
+	private static BakedLock getBakedLock(ItemRenderer itemRenderer, LockItem lock, ItemStack lockStack, Level level) {
+		BakedModel source = itemRenderer.getItemModelShaper().getItemModel(lock);
+		BakedLock bakedLock = BAKED_LOCKS.get(lock);
+		if (bakedLock != null && bakedLock.source == source) {
+			return bakedLock.layers == null ? null : bakedLock;
+		}
+
+		if (source == null || source.isCustomRenderer() || source.getOverrides() != ItemOverrides.EMPTY || lockStack.hasFoil()) {
+			bakedLock = new BakedLock(source, null, null);
+		}
+		else {
+			PoseStack stack = new PoseStack();
+			BakedModel model = source.applyTransform(ItemDisplayContext.NONE, stack, false);
+			stack.translate(-0.5F, -0.5F, -0.5F);
+
+			List<BakedLock.Layer> layers = new ArrayList<>();
+			RandomSource random = RandomSource.create();
+			for (BakedModel pass : model.getRenderPasses(lockStack, true)) {
+				List<BakedQuad> quads = new ArrayList<>();
+				for (Direction direction : DIRECTIONS) {
+					random.setSeed(42L);
+					quads.addAll(pass.getQuads(null, direction, random));
+				}
+				random.setSeed(42L);
+				quads.addAll(pass.getQuads(null, null, random));
+
+				int[] colors = new int[quads.size()];
+				for (int i = 0; i < colors.length; i++) {
+					BakedQuad quad = quads.get(i);
+					colors[i] = quad.isTinted() ? Minecraft.getInstance().getItemColors().getColor(lockStack, quad.getTintIndex()) : -1;
+				}
+				BakedQuad[] quadArray = quads.toArray(new BakedQuad[0]);
+				for (RenderType renderType : pass.getRenderTypes(lockStack, true)) {
+					layers.add(new BakedLock.Layer(renderType, quadArray, colors));
+				}
 			}
+			bakedLock = new BakedLock(source, stack.last(), layers.toArray(new BakedLock.Layer[0]));
 		}
+		BAKED_LOCKS.put(lock, bakedLock);
+		return bakedLock.layers == null ? null : bakedLock;
 	}
 
 	/**
@@ -200,4 +312,55 @@ public abstract class AbstractChestBlockEntityRenderer implements BlockEntityRen
 	public void setMaterial(Material material) {
 		this.material = material;
 	}
+
+	/*
+	 * the transform of a lock slot, along with the slot values it was built from
+	 */
+	private static class SlotTransform {
+		final float x;
+		final float y;
+		final float z;
+		final float rotation;
+		final PoseStack.Pose pose;
+
+		SlotTransform(ILockSlot slot, PoseStack.Pose pose) {
+			this.x = slot.getXOffset();
+			this.y = slot.getYOffset();
+			this.z = slot.getZOffset();
+			this.rotation = slot.getRotation();
+			this.pose = pose;
+		}
+
+		boolean matches(ILockSlot slot) {
+			return x == slot.getXOffset() && y == slot.getYOffset() && z == slot.getZOffset() && rotation == slot.getRotation();
+		}
+	}
+
+	/*
+	 * the pre-transformed quads of a lock item model
+	 */
+	private static class BakedLock {
+		final BakedModel source;
+		final PoseStack.Pose transform;
+		// null = not bakeable
+		final Layer[] layers;
+
+		BakedLock(BakedModel source, PoseStack.Pose transform, Layer[] layers) {
+			this.source = source;
+			this.transform = transform;
+			this.layers = layers;
+		}
+
+		static class Layer {
+			final RenderType renderType;
+			final BakedQuad[] quads;
+			final int[] colors;
+
+			Layer(RenderType renderType, BakedQuad[] quads, int[] colors) {
+				this.renderType = renderType;
+				this.quads = quads;
+				this.colors = colors;
+			}
+		}
+	}
 }
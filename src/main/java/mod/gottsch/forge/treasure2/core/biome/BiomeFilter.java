@@ -0,0 +1,182 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.biome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import mod.gottsch.forge.treasure2.Treasure;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+
+/**
+ * A biome white/black list compiled from config strings.
+ * Biome names (ex. minecraft:plains) are compiled into an identity set of biome keys
+ * and tag names (ex. #minecraft:is_ocean) into tag keys, so a test is a set lookup per list
+ * and does not allocate. Tags are tested against the holder, so they follow datapack reloads.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class BiomeFilter {
+	public static final BiomeFilter EMPTY = compile(null, null);
+
+	private static final String TAG_PREFIX = "#";
+
+	private final Set<ResourceKey<Biome>> whiteListKeys;
+	private final List<TagKey<Biome>> whiteListTags;
+	private final Set<ResourceKey<Biome>> blackListKeys;
+	private final List<TagKey<Biome>> blackListTags;
+	// a configured white list is restrictive even if none of its entries resolve
+	private final boolean whiteListed;
+
+	// the lists this filter was compiled from, to detect a config reload
+	private final List<? extends String> whiteListSource;
+	private final List<? extends String> blackListSource;
+
+	private BiomeFilter(List<? extends String> whiteList, List<? extends String> blackList) {
+		this.whiteListSource = whiteList;
+		this.blackListSource = blackList;
+		this.whiteListKeys = new ReferenceOpenHashSet<>();
+		this.whiteListTags = new ArrayList<>();
+		this.blackListKeys = new ReferenceOpenHashSet<>();
+		this.blackListTags = new ArrayList<>();
+		this.whiteListed = whiteList != null && !whiteList.isEmpty();
+		List<String> unresolved = new ArrayList<>();
+		parse(whiteList, whiteListKeys, whiteListTags, unresolved);
+		parse(blackList, blackListKeys, blackListTags, null);
+		if (whiteListed && whiteListKeys.isEmpty() && whiteListTags.isEmpty()) {
+			Treasure.LOGGER.warn("biome white list has no valid entries -> {}; no biomes will be allowed", unresolved);
+		}
+	}
+
+	/**
+	 * 
+	 * @param whiteList biome names and/or #tag names. may be null.
+	 * @param blackList biome names and/or #tag names. may be null.
+	 * @return
+	 */
+	public static BiomeFilter compile(List<? extends String> whiteList, List<? extends String> blackList) {
+		return new BiomeFilter(whiteList, blackList);
+	}
+
+	/**
+	 * 
+	 * @param whiteList
+	 * @param blackList
+	 * @return whether this filter was compiled from these exact list instances
+	 */
+	public boolean isCompiledFrom(List<? extends String> whiteList, List<? extends String> blackList) {
+		return whiteListSource == whiteList && blackListSource == blackList;
+	}
+
+	/**
+	 * Same semantics as TreasureBiomeHelper.isBiomeAllowed(ResourceLocation, List, List):
+	 * a non-empty white list takes precedence, and a biome not in it is black listed.
+	 * @param biome
+	 * @return
+	 */
+	public TreasureBiomeHelper.Result test(Holder<Biome> biome) {
+		if (hasWhiteList()) {
+			return isWhiteListed(biome) ? TreasureBiomeHelper.Result.WHITE_LISTED : TreasureBiomeHelper.Result.BLACK_LISTED;
+		}
+		return isBlackListed(biome) ? TreasureBiomeHelper.Result.BLACK_LISTED : TreasureBiomeHelper.Result.OK;
+	}
+
+	public boolean hasWhiteList() {
+		return whiteListed;
+	}
+
+	public boolean hasBlackList() {
+		return !blackListKeys.isEmpty() || !blackListTags.isEmpty();
+	}
+
+	public boolean isWhiteListed(Holder<Biome> biome) {
+		return matches(biome, whiteListKeys, whiteListTags);
+	}
+
+	public boolean isBlackListed(Holder<Biome> biome) {
+		return matches(biome, blackListKeys, blackListTags);
+	}
+
+	private static boolean matches(Holder<Biome> biome, Set<ResourceKey<Biome>> keys, List<TagKey<Biome>> tags) {
+		if (!keys.isEmpty()) {
+			ResourceKey<Biome> key = biome instanceof Holder.Reference<Biome> reference ? reference.key() : biome.unwrapKey().orElse(null);
+			if (key != null && keys.contains(key)) {
+				return true;
+			}
+		}
+		for (int i = 0; i < tags.size(); i++) {
+			if (biome.is(tags.get(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 
+	 * @param names
+	 * @param keys
+	 * @param tags
+	 * @param unresolved collects the blank or invalid names. may be null.
+	 */
+	private static void parse(List<? extends String> names, Set<ResourceKey<Biome>> keys, List<TagKey<Biome>> tags, List<String> unresolved) {
+		if (names == null) {
+			return;
+		}
+		for (String name : names) {
+			if (name == null || name.isBlank()) {
+				if (unresolved != null) {
+					unresolved.add(name);
+				}
+				continue;
+			}
+			boolean isTag = name.startsWith(TAG_PREFIX);
+			ResourceLocation location = ResourceLocation.tryParse(isTag ? name.substring(TAG_PREFIX.length()) : name);
+			if (location == null) {
+				Treasure.LOGGER.warn("invalid biome name in white/black list -> '{}'", name);
+				if (unresolved != null) {
+					unresolved.add(name);
+				}
+				continue;
+			}
+			if (isTag) {
+				TagKey<Biome> tag = TagKey.create(Registries.BIOME, location);
+				if (!tags.contains(tag)) {
+					tags.add(tag);
+				}
+			}
+			else {
+				keys.add(ResourceKey.create(Registries.BIOME, location));
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BiomeFilter [whiteListKeys=" + whiteListKeys + ", whiteListTags=" + whiteListTags + ", blackListKeys="
+				+ blackListKeys + ", blackListTags=" + blackListTags + "]";
+	}
+}
@@ -20,6 +20,7 @@ package mod.gottsch.forge.treasure2.core.biome;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.minecraft.core.Holder;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.biome.Biome;
@@ -78,6 +79,16 @@ public class TreasureBiomeHelper {
 		return list;
 	}
 
+	/**
+	 * Preferred over the string list versions - see BiomeFilter.
+	 * @param biome
+	 * @param filter
+	 * @return
+	 */
+	public static Result isBiomeAllowed(Holder<Biome> biome, BiomeFilter filter) {
+		return filter.test(biome);
+	}
+
 	/**
 	 * 
 	 * @param biome
@@ -34,6 +34,7 @@ import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.block.entity.AbstractTreasureChestBlockEntity;
 import mod.gottsch.forge.treasure2.core.block.entity.ITreasureChestBlockEntity;
+import mod.gottsch.forge.treasure2.core.block.entity.TreasureBlockEntities;
 import mod.gottsch.forge.treasure2.core.entity.monster.Mimic;
 import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.lock.ILockSlot;
@@ -105,6 +106,11 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 	 */
 	private final Class<?> blockEntityClass;
 
+	/*
+	 * creates the block entity, bound once at construction
+	 */
+	private final BlockEntityType.BlockEntitySupplier<? extends AbstractTreasureChestBlockEntity> blockEntityFactory;
+
 	/*
 	 *  an instance of the blockEntity defined by blockEntityClass
 	 */
@@ -122,6 +128,7 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 	public AbstractTreasureChestBlock(Class<? extends AbstractTreasureChestBlockEntity> be, LockLayout lockLayout, Properties properties) {
 		super(properties);
 		this.blockEntityClass = be;
+		this.blockEntityFactory = TreasureBlockEntities.getChestFactory(be).orElseGet(() -> reflectiveFactory(be));
 		this.lockLayout = lockLayout;
 		this.blockEntityInstance = newInstanceBlockEntity(new BlockPos(0,0,0), null);
 
@@ -159,8 +166,6 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 				lockStates.add(lockState.getSlot().getIndex(), lockState);
 			}
 			chestTileEntity.setLockStates(lockStates);
-			Treasure.LOGGER.info("AbstractTreasureChestBlock | newBlockEntity | lockStates -> {}", chestTileEntity.getLockStates());
-			Treasure.LOGGER.info("AbstractTreasureChestBlock | newBlockEntity | tileEntity -> {} @ {}", chestTileEntity, chestTileEntity.getBlockPos());
 		}
 		catch(Exception e) {
 			Treasure.LOGGER.error(e);
@@ -175,18 +180,8 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 	 * @return
 	 */
 	protected AbstractTreasureChestBlockEntity newInstanceBlockEntity(BlockPos pos, BlockState state) {
-		/*
-		 *  construct a new instance of the block entity.
-		 *  ensure to use BlockPos.class and not pos.getClass() for the Class<?> type variable
-		 *  because when this method is called from load, a MutableBlockPos is passed in, 
-		 *  and reflection will not be able to locate the constructor because it has a different signature, 
-		 *  and this will save from having every concrete Chest class needing to implement a separate 
-		 *  constructor for the MutableBlockPos.
-		 */
 		try {
-			Class<?>[] type = { BlockPos.class, BlockState.class };
-			Constructor<?> cons = getBlockEntityClass().getConstructor(type);			
-			return (AbstractTreasureChestBlockEntity) cons.newInstance(pos, state);
+			return blockEntityFactory.create(pos, state);
 		}
 		catch(Exception e) {
 			Treasure.LOGGER.error(e);
@@ -194,6 +189,36 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 		}
 	}
 
+	/**
+	 * The fallback for block entity classes without a registered factory (ex. add-ons).
+	 * The constructor is resolved once.
+	 * ensure to use BlockPos.class and not pos.getClass() for the Class<?> type variable
+	 * because when this method is called from load, a MutableBlockPos is passed in, 
+	 * and reflection will not be able to locate the constructor because it has a different signature.
+	 * @param be
+	 * @return
+	 */
+	private static BlockEntityType.BlockEntitySupplier<? extends AbstractTreasureChestBlockEntity> reflectiveFactory(Class<? extends AbstractTreasureChestBlockEntity> be) {
+		Treasure.LOGGER.warn("no block entity factory registered for -> {}, using reflection", be.getName());
+		final Constructor<? extends AbstractTreasureChestBlockEntity> cons;
+		try {
+			cons = be.getConstructor(BlockPos.class, BlockState.class);
+		}
+		catch(Exception e) {
+			Treasure.LOGGER.error(e);
+			return (pos, state) -> null;
+		}
+		return (pos, state) -> {
+			try {
+				return cons.newInstance(pos, state);
+			}
+			catch(Exception e) {
+				Treasure.LOGGER.error(e);
+				return null;
+			}
+		};
+	}
+
 	@Nullable
 	@Override
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
@@ -201,7 +226,6 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 			return (lvl, pos, blockState, t) -> {
 				if (t instanceof ITreasureChestBlockEntity entity) { // test and cast
 					entity.tickClient();
-					entity.tickParticle();
 				}
 			};
 		}
@@ -419,9 +443,10 @@ public class AbstractTreasureChestBlock extends BaseEntityBlock implements ITrea
 			Treasure.LOGGER.debug("attempting to get chest cache for dimension -> {}, featureType -> {}", dimension, newBlockEntity.getGenerationContext().getFeatureType());
 			GeneratedCache<GeneratedChestContext> cache = DimensionalGeneratedCache.getChestGeneratedCache(dimension, newBlockEntity.getGenerationContext().getFeatureType());
 			if (cache != null) {
-				Optional<GeneratedChestContext> context = cache.get(newBlockEntity.getGenerationContext().getLootRarity(), new Coords(pos).toShortString());
+				Optional<GeneratedChestContext> context = cache.get(newBlockEntity.getGenerationContext().getLootRarity(), pos);
 				if (context.isPresent()) {
 					context.get().setDiscovered(true);
+					cache.markDirty(context.get().getCoords());
 					Treasure.LOGGER.debug("updating chest in cache to discovered -> {}", pos.toShortString());
 				}
 			}
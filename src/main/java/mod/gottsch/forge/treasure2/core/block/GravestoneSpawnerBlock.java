@@ -19,17 +19,12 @@
  */
 package mod.gottsch.forge.treasure2.core.block;
 
-import javax.annotation.Nullable;
-
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.block.entity.GravestoneProximitySpawnerBlockEntity;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
 /**
@@ -55,17 +50,4 @@ public class GravestoneSpawnerBlock extends GravestoneBlock implements EntityBlo
 		GravestoneProximitySpawnerBlockEntity tileEntity = new GravestoneProximitySpawnerBlockEntity(pos, state);
 		return (BlockEntity) tileEntity;
 	}
-	
-	@Nullable
-	@Override
-	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
-		if (!level.isClientSide()) {
-			return (lvl, pos, blockState, t) -> {
-				if (t instanceof GravestoneProximitySpawnerBlockEntity entity) { // test and cast
-					entity.tickServer();
-				}
-			};
-		}
-		return null;
-	}
-}
\ No newline at end of file
+}
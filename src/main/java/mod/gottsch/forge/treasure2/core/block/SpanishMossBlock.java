@@ -17,7 +17,6 @@
  */
 package mod.gottsch.forge.treasure2.core.block;
 
-import java.util.Random;
 
 import mod.gottsch.neo.gottschcore.random.RandomHelper;
 import mod.gottsch.forge.treasure2.Treasure;
@@ -80,7 +79,7 @@ public class SpanishMossBlock extends BushBlock implements ITreasureBlock {
 			return;
 		}
 
-		if (RandomHelper.checkProbability(new Random(), 75D)) {
+		if (RandomHelper.checkProbability(random, 75D)) {
 			return;
 		}
 
@@ -36,14 +36,13 @@ import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.generator.chest.IChestGenerator;
 import mod.gottsch.forge.treasure2.core.inventory.StandardChestContainerMenu;
 import mod.gottsch.forge.treasure2.core.lock.LockState;
-import mod.gottsch.forge.treasure2.core.particle.TreasureParticles;
+import mod.gottsch.forge.treasure2.core.particle.CoinParticleEmitter;
 import mod.gottsch.forge.treasure2.core.registry.ChestGeneratorRegistry;
 import mod.gottsch.forge.treasure2.core.util.LangUtil;
 import mod.gottsch.forge.treasure2.core.world.feature.FeatureType;
 import mod.gottsch.forge.treasure2.core.world.feature.IFeatureType;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -53,7 +52,6 @@ import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.Nameable;
@@ -301,32 +299,16 @@ public abstract class AbstractTreasureChestBlockEntity extends BlockEntity imple
 		}	
 	}
 
+	/**
+	 * Coin particles are normally driven by CoinParticleEmitter's client tick;
+	 * this remains for callers that want to tick a single chest directly.
+	 */
 	@Override
 	public void tickParticle() {
 		if (Config.SERVER.effects.enableUndiscoveredEffects.get()
-				&& !getBlockState().getValue(AbstractTreasureChestBlock.DISCOVERED)) {
-
-			// TODO move this to IChestEffects
-
-			if (getLevel().getGameTime() % 10 == 0) {
-				RandomSource random = getLevel().getRandom();
-				for(int k = 0; k < 5; ++k) {
-					SimpleParticleType coinParticle;
-					int x = k % 3;
-					if (x == 0) {
-						coinParticle = TreasureParticles.COPPER_COIN_PARTICLE.get();
-					} else if (x == 1) {
-						coinParticle = TreasureParticles.SILVER_COIN_PARTICLE.get();
-					} else {
-						coinParticle = TreasureParticles.GOLD_COIN_PARTICLE.get();
-					}
-					getLevel().addParticle(coinParticle, 
-							(double)getBlockPos().getX() + 0.5D + random.nextDouble() / 3.0D * (double)(random.nextBoolean() ? 1 : -1), 
-							(double)getBlockPos().getY() + random.nextDouble() + random.nextDouble(),
-							(double)getBlockPos().getZ() + 0.5D + random.nextDouble() / 3.0D * (double)(random.nextBoolean() ? 1 : -1),
-							0.0D, 0.07D, 0.0D);
-				}
-			}
+				&& !getBlockState().getValue(AbstractTreasureChestBlock.DISCOVERED)
+				&& getLevel().getGameTime() % CoinParticleEmitter.EMIT_INTERVAL == 0) {
+			CoinParticleEmitter.emit(getLevel(), getBlockPos(), getLevel().getRandom());
 		}
 	}
 
@@ -351,6 +333,23 @@ public abstract class AbstractTreasureChestBlockEntity extends BlockEntity imple
 	public void onLoad() {
 		super.onLoad();
 		instanceHandler = LazyOptional.of(() -> itemHandler);
+		updateParticleEmitter();
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public void setBlockState(BlockState state) {
+		super.setBlockState(state);
+		updateParticleEmitter();
+	}
+
+	/**
+	 * (Un)registers this chest with the client coin particle emitter according to its discovered state.
+	 */
+	protected void updateParticleEmitter() {
+		if (getLevel() != null && getLevel().isClientSide()) {
+			CoinParticleEmitter.update(getBlockPos(), !isRemoved() && CoinParticleEmitter.isUndiscoveredChest(getBlockState()));
+		}
 	}
 
 	@Override
@@ -605,6 +604,9 @@ public abstract class AbstractTreasureChestBlockEntity extends BlockEntity imple
 	public void setRemoved() {
 		super.setRemoved();
 		instanceHandler.invalidate();
+		if (getLevel() != null && getLevel().isClientSide()) {
+			CoinParticleEmitter.unregister(getBlockPos());
+		}
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.entity.TreasureEntities;
 import mod.gottsch.forge.treasure2.core.entity.monster.BoundSoul;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
+import mod.gottsch.forge.treasure2.core.world.proximity.PlayerProximityService;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.Connection;
@@ -65,40 +66,41 @@ public class GravestoneProximitySpawnerBlockEntity extends ProximitySpawnerBlock
 	}
 
 	/**
-	 * NOTE this was not working when calling the super.update()
+	 * Registers with the proximity service instead of polling the players every tick.
 	 */
-	public void tickServer() {
-		boolean hasEntity = hasEntity();
-		if (hasEntity && Config.SERVER.markers.enableSpawner.get()) {
-
-			// this is copied fromt he abstract
-			if (this.level.isClientSide()) {
-				return;
-			}
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (getLevel() instanceof ServerLevel serverLevel && !isDead()) {
+			PlayerProximityService.register(serverLevel, getBlockPos(), getProximity(), this::onProximity);
+		}
+	}
 
-			boolean isTriggered = false;
-			double proximitySq = getProximity() * getProximity();
-			if (proximitySq < 1) {
-				proximitySq = 1;
-			}
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		if (getLevel() instanceof ServerLevel serverLevel) {
+			PlayerProximityService.unregister(serverLevel, getBlockPos());
+		}
+	}
 
-			// for each player
-			for (Player player : getLevel().players()) {
-				// get the distance
-				double distanceSq = player.distanceToSqr(this.getBlockPos().getX(), getBlockPos().getY(), getBlockPos().getZ());
-				if (!isTriggered && !this.isDead() && (distanceSq < proximitySq)) {
-					Treasure.LOGGER.debug("proximity @ -> {} was met.", new Coords(getBlockPos()).toShortString());
-					isTriggered = true;
-					// exectute action
-					Treasure.LOGGER.debug("proximity pos -> {}", this.getBlockPos());
-					execute(level, level.getRandom(), new Coords(this.getBlockPos()), new Coords(player.blockPosition()));
-					// NOTE: does not self-destruct that is up to the execute action to perform
-				}
-				if (this.isDead()) {
-					break;
-				}
-			}
+	/**
+	 * 
+	 * @param level
+	 * @param player
+	 * @return whether to remain registered
+	 */
+	protected boolean onProximity(ServerLevel level, Player player) {
+		if (isRemoved() || isDead()) {
+			return false;
+		}
+		if (Config.SERVER.markers.enableSpawner.get()) {
+			Treasure.LOGGER.debug("proximity @ -> {} was met.", new Coords(getBlockPos()).toShortString());
+			// exectute action
+			execute(level, level.getRandom(), new Coords(this.getBlockPos()), new Coords(player.blockPosition()));
+			// NOTE: does not self-destruct that is up to the execute action to perform
 		}
+		return !isDead();
 	}
 	
 	/**
@@ -199,5 +201,9 @@ public class GravestoneProximitySpawnerBlockEntity extends ProximitySpawnerBlock
 
 	public void setHasEntity(boolean hasEntity) {
 		this.hasEntity = hasEntity;
+		// re-arm when set after the block entity was loaded
+		if (hasEntity && getLevel() instanceof ServerLevel serverLevel && !isRemoved() && !isDead()) {
+			PlayerProximityService.register(serverLevel, getBlockPos(), getProximity(), this::onProximity);
+		}
 	}
 }
\ No newline at end of file
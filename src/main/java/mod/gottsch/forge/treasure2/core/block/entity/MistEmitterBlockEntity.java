@@ -28,7 +28,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 
 
 /**
@@ -39,7 +38,9 @@ public class MistEmitterBlockEntity extends BlockEntity {
 	public static final float DEFAULT_PROXIMITY = 5.0F;
 	private float proximity = DEFAULT_PROXIMITY;
 	private boolean active = false;
-	private List<Player> playersWithinProximity;
+	// client-thread only
+	private final List<Player> playersWithinProximity = new ArrayList<>();
+	private final List<Player> playersWithinProximityView = Collections.unmodifiableList(playersWithinProximity);
 
 	public MistEmitterBlockEntity(BlockPos pos, BlockState state) {
 		this(TreasureBlockEntities.MIST_EMITTER_BLOCK_ENTITY_TYPE.get(), pos, state);
@@ -50,7 +51,6 @@ public class MistEmitterBlockEntity extends BlockEntity {
 	 */
 	public MistEmitterBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
-		playersWithinProximity = Collections.synchronizedList(new ArrayList<>());
 	}
 	
 	public void tickClient() {
@@ -58,30 +58,29 @@ public class MistEmitterBlockEntity extends BlockEntity {
         	return;
         }
 
-    	// get all players within range
-		int x = getBlockPos().getX();
-		int y = getBlockPos().getY();
-		int z = getBlockPos().getZ();
-		float radius = 5.0F;
-        double proximitySq = getProximity() * getProximity();
-
         // clear list
-        getPlayersWithinProximity().clear();
+        playersWithinProximity.clear();
         setActive(false);
-        
-        // for each player
-		for(Player player : getLevel().getEntitiesOfClass(Player.class, new AABB((double)((float)x - radius), (double)((float)y - radius), (double)((float)z - radius), 
-		(double)((float)(x + 1) + radius), (double)((float)(y + 1) + radius), (double)((float)(z + 1) + radius)))) {
-            // get the distance
-            double distanceSq = player.distanceToSqr(x + 0.5D, y + 0.5D, z + 0.5D);
-           
-            if (distanceSq < proximitySq) {
+
+        // the client level only holds a handful of players, so scan them directly instead of an entity AABB query
+        for (Player player : getLevel().players()) {
+            if (isWithinProximity(player)) {
             	// add player to list
-            	getPlayersWithinProximity().add(player);
+            	playersWithinProximity.add(player);
             	setActive(true);
             }
         }
 	}
+
+	/**
+	 * 
+	 * @param player
+	 * @return
+	 */
+	public boolean isWithinProximity(Player player) {
+		double proximitySq = getProximity() * getProximity();
+		return player.distanceToSqr(getBlockPos().getX() + 0.5D, getBlockPos().getY() + 0.5D, getBlockPos().getZ() + 0.5D) < proximitySq;
+	}
 	
 	/**
 	 * 
@@ -99,12 +98,12 @@ public class MistEmitterBlockEntity extends BlockEntity {
 	    super.saveAdditional(tag);
 	}
 
-	public synchronized List<Player> getPlayersWithinProximity() {
-		return playersWithinProximity;
-	}
-
-	private synchronized void setPlayersWithinProximity(List<Player> playersWithinProximity) {
-		this.playersWithinProximity = playersWithinProximity;
+	/**
+	 * 
+	 * @return a read-only view of the players within proximity as of the last client tick
+	 */
+	public List<Player> getPlayersWithinProximity() {
+		return playersWithinProximityView;
 	}
 
 	public synchronized boolean isActive() {
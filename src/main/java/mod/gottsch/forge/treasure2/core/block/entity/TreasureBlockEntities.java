@@ -17,6 +17,10 @@
  */
 package mod.gottsch.forge.treasure2.core.block.entity;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 import mod.gottsch.forge.treasure2.core.block.TreasureBlocks;
 import mod.gottsch.forge.treasure2.core.setup.Registration;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -29,6 +33,34 @@ import net.minecraftforge.registries.RegistryObject;
  *
  */
 public class TreasureBlockEntities {
+
+	/*
+	 * the statically bound chest block entity factories by block entity class, 
+	 * used by AbstractTreasureChestBlock.newBlockEntity() instead of reflection.
+	 */
+	private static final Map<Class<? extends AbstractTreasureChestBlockEntity>, BlockEntityType.BlockEntitySupplier<? extends AbstractTreasureChestBlockEntity>> CHEST_FACTORIES = new HashMap<>();
+
+	static {
+		registerChestFactory(WoodChestBlockEntity.class, WoodChestBlockEntity::new);
+		registerChestFactory(CrateChestBlockEntity.class, CrateChestBlockEntity::new);
+		registerChestFactory(MoldyCrateChestBlockEntity.class, MoldyCrateChestBlockEntity::new);
+		registerChestFactory(IronboundChestBlockEntity.class, IronboundChestBlockEntity::new);
+		registerChestFactory(PirateChestBlockEntity.class, PirateChestBlockEntity::new);
+		registerChestFactory(SafeBlockEntity.class, SafeBlockEntity::new);
+		registerChestFactory(IronStrongboxBlockEntity.class, IronStrongboxBlockEntity::new);
+		registerChestFactory(GoldStrongboxBlockEntity.class, GoldStrongboxBlockEntity::new);
+		registerChestFactory(DreadPirateChestBlockEntity.class, DreadPirateChestBlockEntity::new);
+		registerChestFactory(CompressorChestBlockEntity.class, CompressorChestBlockEntity::new);
+		registerChestFactory(SkullChestBlockEntity.class, SkullChestBlockEntity::new);
+		registerChestFactory(GoldSkullChestBlockEntity.class, GoldSkullChestBlockEntity::new);
+		registerChestFactory(CrystalSkullChestBlockEntity.class, CrystalSkullChestBlockEntity::new);
+		registerChestFactory(CauldronChestBlockEntity.class, CauldronChestBlockEntity::new);
+		registerChestFactory(SpiderChestBlockEntity.class, SpiderChestBlockEntity::new);
+		registerChestFactory(VikingChestBlockEntity.class, VikingChestBlockEntity::new);
+		registerChestFactory(CardboardBoxBlockEntity.class, CardboardBoxBlockEntity::new);
+		registerChestFactory(MilkCrateBlockEntity.class, MilkCrateBlockEntity::new);
+		registerChestFactory(WitherChestBlockEntity.class, WitherChestBlockEntity::new);
+	}
 	
 	public static final RegistryObject<BlockEntityType<WoodChestBlockEntity>> WOOD_CHEST_BLOCK_ENTITY_TYPE = 
 			Registration.BLOCK_ENTITIES.register("wood_chest_block_entity", 
@@ -138,6 +170,24 @@ public class TreasureBlockEntities {
 					).build(null));
 
 	
+	/**
+	 * Registers the factory for a chest block entity class. Must be called before the chest block is constructed.
+	 * @param blockEntityClass
+	 * @param factory
+	 */
+	public static synchronized <T extends AbstractTreasureChestBlockEntity> void registerChestFactory(Class<T> blockEntityClass, BlockEntityType.BlockEntitySupplier<T> factory) {
+		CHEST_FACTORIES.put(blockEntityClass, factory);
+	}
+
+	/**
+	 * 
+	 * @param blockEntityClass
+	 * @return
+	 */
+	public static synchronized Optional<BlockEntityType.BlockEntitySupplier<? extends AbstractTreasureChestBlockEntity>> getChestFactory(Class<? extends AbstractTreasureChestBlockEntity> blockEntityClass) {
+		return Optional.ofNullable(CHEST_FACTORIES.get(blockEntityClass));
+	}
+
 	public static void register(IEventBus bus) {
 		// cycle through all block and create items
 		Registration.registerBlockEntities(bus);
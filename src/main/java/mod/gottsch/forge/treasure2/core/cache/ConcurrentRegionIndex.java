@@ -0,0 +1,614 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * A thread-safe spatial index of values keyed by packed block positions (BlockPos.asLong).
+ * Entries are sharded by region (512x512 blocks) and the regions are guarded by a fixed
+ * set of striped read/write locks, so worldgen threads working in different parts
+ * of the world do not contend with each other.
+ * Within a region, the entries are also bucketed by chunk so that area checks only
+ * inspect the chunks the area covers.
+ * Insertion order is maintained by a lock-free queue to provide O(1) eviction of the oldest entry.
+ * Every mutation marks its region dirty so that persistence can write only the changed regions.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class ConcurrentRegionIndex<T> {
+	public static final int REGION_SHIFT = 9;
+	private static final int CELL_SHIFT = 4;
+	private static final int STRIPES = 64;
+	private static final int MIN_COMPACT_SIZE = 64;
+
+	private final Stripe<T>[] stripes;
+	/*
+	 * the insertion order of entries. removed entries are left in place as tombstones
+	 * and are skipped / compacted lazily.
+	 */
+	private final ConcurrentLinkedQueue<Entry<T>> ageQueue;
+	private final AtomicInteger size;
+	private final AtomicInteger tombstones;
+	private final AtomicLong sequence;
+	// only one compaction pass runs at a time
+	private final AtomicBoolean compacting;
+
+	/**
+	 *
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentRegionIndex() {
+		stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new Stripe<>();
+		}
+		ageQueue = new ConcurrentLinkedQueue<>();
+		size = new AtomicInteger();
+		tombstones = new AtomicInteger();
+		sequence = new AtomicLong();
+		compacting = new AtomicBoolean();
+	}
+
+	/**
+	 *
+	 * @param x
+	 * @param z
+	 * @return
+	 */
+	public static long regionKey(int x, int z) {
+		return ChunkPos.asLong(x >> REGION_SHIFT, z >> REGION_SHIFT);
+	}
+
+	/**
+	 *
+	 * @param key packed block position
+	 * @param value
+	 * @return the previous value at key, or null
+	 */
+	public T put(long key, T value) {
+		return put(key, value, 0L);
+	}
+
+	/**
+	 * Restores an entry with its persisted insertion sequence, so that the age order survives a reload.
+	 * Entries should be restored in ascending sequence order. Subsequent puts are sequenced after
+	 * the largest restored sequence.
+	 * @param key packed block position
+	 * @param value
+	 * @param restoredSequence the persisted sequence, or 0 to allocate a new one
+	 * @return the previous value at key, or null
+	 */
+	public T put(long key, T value, long restoredSequence) {
+		long regionKey = regionKey(BlockPos.getX(key), BlockPos.getZ(key));
+		Stripe<T> stripe = getStripe(regionKey);
+		Entry<T> previous;
+		stripe.lock.writeLock().lock();
+		try {
+			long entrySequence;
+			if (restoredSequence > 0) {
+				entrySequence = restoredSequence;
+				sequence.accumulateAndGet(restoredSequence, Math::max);
+			}
+			else {
+				entrySequence = sequence.incrementAndGet();
+			}
+			Entry<T> entry = new Entry<>(key, regionKey, entrySequence, value);
+			Region<T> region = stripe.regions.get(regionKey);
+			if (region == null) {
+				region = new Region<>();
+				stripe.regions.put(regionKey, region);
+			}
+			previous = region.put(key, entry);
+			if (previous != null) {
+				previous.removed = true;
+				tombstones.incrementAndGet();
+			}
+			else {
+				size.incrementAndGet();
+			}
+			ageQueue.add(entry);
+			stripe.dirtyRegions.add(regionKey);
+		}
+		finally {
+			stripe.lock.writeLock().unlock();
+		}
+		compact();
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 *
+	 * @param key packed block position
+	 * @return
+	 */
+	public T get(long key) {
+		long regionKey = regionKey(BlockPos.getX(key), BlockPos.getZ(key));
+		Stripe<T> stripe = getStripe(regionKey);
+		stripe.lock.readLock().lock();
+		try {
+			Region<T> region = stripe.regions.get(regionKey);
+			if (region != null) {
+				Entry<T> entry = region.entries.get(key);
+				if (entry != null) {
+					return entry.value;
+				}
+			}
+			return null;
+		}
+		finally {
+			stripe.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *
+	 * @param key packed block position
+	 * @return the removed value, or null
+	 */
+	public T remove(long key) {
+		long regionKey = regionKey(BlockPos.getX(key), BlockPos.getZ(key));
+		Stripe<T> stripe = getStripe(regionKey);
+		Entry<T> entry = null;
+		stripe.lock.writeLock().lock();
+		try {
+			Region<T> region = stripe.regions.get(regionKey);
+			if (region != null) {
+				entry = region.remove(key);
+				if (region.isEmpty()) {
+					stripe.regions.remove(regionKey);
+				}
+				if (entry != null) {
+					stripe.dirtyRegions.add(regionKey);
+					entry.removed = true;
+					size.decrementAndGet();
+					tombstones.incrementAndGet();
+				}
+			}
+		}
+		finally {
+			stripe.lock.writeLock().unlock();
+		}
+		compact();
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Removes the oldest entry.
+	 * @return the removed value, or null if empty
+	 */
+	public T pollEldest() {
+		Entry<T> entry;
+		while ((entry = ageQueue.poll()) != null) {
+			if (entry.removed) {
+				reclaim(entry);
+				continue;
+			}
+			Stripe<T> stripe = getStripe(entry.regionKey);
+			stripe.lock.writeLock().lock();
+			try {
+				Region<T> region = stripe.regions.get(entry.regionKey);
+				if (region != null && region.remove(entry.key, entry)) {
+					if (region.isEmpty()) {
+						stripe.regions.remove(entry.regionKey);
+					}
+					stripe.dirtyRegions.add(entry.regionKey);
+					entry.removed = true;
+					size.decrementAndGet();
+					return entry.value;
+				}
+				// removed by another thread since it was polled - it was counted as a tombstone
+				reclaim(entry);
+			}
+			finally {
+				stripe.lock.writeLock().unlock();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Determines if any entry falls within the area (x/z only, inclusive).
+	 * Only the chunk buckets of the regions that intersect the area are inspected,
+	 * chunks that lie entirely within the area need no position tests,
+	 * and the search stops at the first hit.
+	 * @param minX
+	 * @param minZ
+	 * @param maxX
+	 * @param maxZ
+	 * @return
+	 */
+	public boolean anyWithin(int minX, int minZ, int maxX, int maxZ) {
+		// entries occupy a 1x1 column, ie [x, x+1]
+		int areaMinX = minX - 1;
+		int areaMinZ = minZ - 1;
+		int startRegionX = areaMinX >> REGION_SHIFT;
+		int startRegionZ = areaMinZ >> REGION_SHIFT;
+		int endRegionX = maxX >> REGION_SHIFT;
+		int endRegionZ = maxZ >> REGION_SHIFT;
+
+		for (int regionX = startRegionX; regionX <= endRegionX; regionX++) {
+			for (int regionZ = startRegionZ; regionZ <= endRegionZ; regionZ++) {
+				long regionKey = ChunkPos.asLong(regionX, regionZ);
+				Stripe<T> stripe = getStripe(regionKey);
+				stripe.lock.readLock().lock();
+				try {
+					Region<T> region = stripe.regions.get(regionKey);
+					if (region == null) {
+						continue;
+					}
+					// the covered chunks, clipped to this region
+					int cellsPerRegion = 1 << (REGION_SHIFT - CELL_SHIFT);
+					int startCellX = Math.max(areaMinX >> CELL_SHIFT, regionX * cellsPerRegion);
+					int startCellZ = Math.max(areaMinZ >> CELL_SHIFT, regionZ * cellsPerRegion);
+					int endCellX = Math.min(maxX >> CELL_SHIFT, (regionX + 1) * cellsPerRegion - 1);
+					int endCellZ = Math.min(maxZ >> CELL_SHIFT, (regionZ + 1) * cellsPerRegion - 1);
+					int covered = (endCellX - startCellX + 1) * (endCellZ - startCellZ + 1);
+					if (covered <= region.cells.size()) {
+						// probe the covered chunks
+						for (int cellX = startCellX; cellX <= endCellX; cellX++) {
+							for (int cellZ = startCellZ; cellZ <= endCellZ; cellZ++) {
+								LongArrayList cell = region.cells.get(ChunkPos.asLong(cellX, cellZ));
+								if (cell != null && anyWithin(cell, cellX, cellZ, minX, minZ, maxX, maxZ)) {
+									return true;
+								}
+							}
+						}
+					}
+					else {
+						// fewer occupied chunks than covered chunks - walk the occupied ones
+						for (Long2ObjectMap.Entry<LongArrayList> cellEntry : Long2ObjectMaps.fastIterable(region.cells)) {
+							int cellX = ChunkPos.getX(cellEntry.getLongKey());
+							int cellZ = ChunkPos.getZ(cellEntry.getLongKey());
+							if (cellX >= startCellX && cellX <= endCellX && cellZ >= startCellZ && cellZ <= endCellZ
+									&& anyWithin(cellEntry.getValue(), cellX, cellZ, minX, minZ, maxX, maxZ)) {
+								return true;
+							}
+						}
+					}
+				}
+				finally {
+					stripe.lock.readLock().unlock();
+				}
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * tests a single chunk bucket. a chunk that lies entirely within the area needs no position tests.
+	 */
+	private static boolean anyWithin(LongArrayList cell, int cellX, int cellZ, int minX, int minZ, int maxX, int maxZ) {
+		int areaMinX = minX - 1;
+		int areaMinZ = minZ - 1;
+		if ((cellX << CELL_SHIFT) >= areaMinX && ((cellX + 1) << CELL_SHIFT) - 1 <= maxX
+				&& (cellZ << CELL_SHIFT) >= areaMinZ && ((cellZ + 1) << CELL_SHIFT) - 1 <= maxZ) {
+			return !cell.isEmpty();
+		}
+		for (int i = 0; i < cell.size(); i++) {
+			long key = cell.getLong(i);
+			int x = BlockPos.getX(key);
+			int z = BlockPos.getZ(key);
+			if (x <= maxX && x + 1 >= minX && z <= maxZ && z + 1 >= minZ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Flags the region containing key as changed, ie. when a value was mutated in place.
+	 * @param key packed block position
+	 */
+	public void markDirty(long key) {
+		long regionKey = regionKey(BlockPos.getX(key), BlockPos.getZ(key));
+		Stripe<T> stripe = getStripe(regionKey);
+		stripe.lock.writeLock().lock();
+		try {
+			stripe.dirtyRegions.add(regionKey);
+		}
+		finally {
+			stripe.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Flags a region as changed, ie. when writing its shard failed.
+	 * @param regionKey
+	 */
+	public void markRegionDirty(long regionKey) {
+		Stripe<T> stripe = getStripe(regionKey);
+		stripe.lock.writeLock().lock();
+		try {
+			stripe.dirtyRegions.add(regionKey);
+		}
+		finally {
+			stripe.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Flags every populated region as changed.
+	 */
+	public void markAllDirty() {
+		for (Stripe<T> stripe : stripes) {
+			stripe.lock.writeLock().lock();
+			try {
+				stripe.dirtyRegions.addAll(stripe.regions.keySet());
+			}
+			finally {
+				stripe.lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Returns and resets the keys of all the regions that changed since the last call.
+	 * @return
+	 */
+	public LongList drainDirtyRegions() {
+		LongList dirty = new LongArrayList();
+		for (Stripe<T> stripe : stripes) {
+			stripe.lock.writeLock().lock();
+			try {
+				if (!stripe.dirtyRegions.isEmpty()) {
+					dirty.addAll(stripe.dirtyRegions);
+					stripe.dirtyRegions.clear();
+				}
+			}
+			finally {
+				stripe.lock.writeLock().unlock();
+			}
+		}
+		return dirty;
+	}
+
+	/**
+	 * Iterates the live entries of a single region, with their insertion sequence.
+	 * @param regionKey
+	 * @param consumer
+	 */
+	public void forEachInRegion(long regionKey, SequencedConsumer<T> consumer) {
+		Stripe<T> stripe = getStripe(regionKey);
+		stripe.lock.readLock().lock();
+		try {
+			Region<T> region = stripe.regions.get(regionKey);
+			if (region != null) {
+				for (Entry<T> entry : region.entries.values()) {
+					consumer.accept(entry.sequence, entry.value);
+				}
+			}
+		}
+		finally {
+			stripe.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Iterates the live values, oldest first.
+	 * @param consumer
+	 */
+	public void forEach(Consumer<T> consumer) {
+		ageQueue.forEach(entry -> {
+			if (!entry.removed) {
+				consumer.accept(entry.value);
+			}
+		});
+	}
+
+	/**
+	 * A snapshot of the live values, oldest first.
+	 * @return
+	 */
+	public List<T> values() {
+		List<T> values = new ArrayList<>(size());
+		forEach(values::add);
+		return values;
+	}
+
+	public int size() {
+		return Math.max(0, size.get());
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 *
+	 */
+	public void clear() {
+		for (Stripe<T> stripe : stripes) {
+			stripe.lock.writeLock().lock();
+		}
+		try {
+			for (Stripe<T> stripe : stripes) {
+				stripe.regions.clear();
+				stripe.dirtyRegions.clear();
+			}
+			ageQueue.clear();
+			size.set(0);
+			tombstones.set(0);
+		}
+		finally {
+			for (Stripe<T> stripe : stripes) {
+				stripe.lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Purges tombstones from the age queue once they outnumber the live entries.
+	 * Amortized O(1) per removal. A single pass runs at a time; concurrent callers skip.
+	 */
+	private void compact() {
+		if (tombstones.get() > Math.max(MIN_COMPACT_SIZE, size.get()) && compacting.compareAndSet(false, true)) {
+			try {
+				ageQueue.removeIf(entry -> {
+					if (entry.removed) {
+						reclaim(entry);
+						return true;
+					}
+					return false;
+				});
+			}
+			finally {
+				compacting.set(false);
+			}
+		}
+	}
+
+	/*
+	 * uncounts a tombstone exactly once, whichever of pollEldest() and compact() reaches it first.
+	 */
+	private void reclaim(Entry<T> entry) {
+		if (entry.reclaim()) {
+			tombstones.decrementAndGet();
+		}
+	}
+
+	private Stripe<T> getStripe(long regionKey) {
+		long hash = regionKey * 0x9E3779B97F4A7C15L;
+		return stripes[(int)(hash >>> 58) & (STRIPES - 1)];
+	}
+
+	/*
+	 *
+	 */
+	private static class Stripe<T> {
+		final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		final Long2ObjectMap<Region<T>> regions = new Long2ObjectOpenHashMap<>();
+		final LongSet dirtyRegions = new LongOpenHashSet();
+	}
+
+	/*
+	 * the entries of a region, by position and bucketed by chunk
+	 */
+	private static class Region<T> {
+		final Long2ObjectMap<Entry<T>> entries = new Long2ObjectOpenHashMap<>();
+		final Long2ObjectMap<LongArrayList> cells = new Long2ObjectOpenHashMap<>();
+
+		Entry<T> put(long key, Entry<T> entry) {
+			Entry<T> previous = entries.put(key, entry);
+			if (previous == null) {
+				long cellKey = cellKey(key);
+				LongArrayList cell = cells.get(cellKey);
+				if (cell == null) {
+					cell = new LongArrayList(4);
+					cells.put(cellKey, cell);
+				}
+				cell.add(key);
+			}
+			return previous;
+		}
+
+		Entry<T> remove(long key) {
+			Entry<T> entry = entries.remove(key);
+			if (entry != null) {
+				removeFromCell(key);
+			}
+			return entry;
+		}
+
+		boolean remove(long key, Entry<T> entry) {
+			if (entries.remove(key, entry)) {
+				removeFromCell(key);
+				return true;
+			}
+			return false;
+		}
+
+		boolean isEmpty() {
+			return entries.isEmpty();
+		}
+
+		private void removeFromCell(long key) {
+			long cellKey = cellKey(key);
+			LongArrayList cell = cells.get(cellKey);
+			if (cell != null) {
+				int index = cell.indexOf(key);
+				if (index >= 0) {
+					// order within a cell doesn't matter - swap in the last key
+					cell.set(index, cell.getLong(cell.size() - 1));
+					cell.removeLong(cell.size() - 1);
+				}
+				if (cell.isEmpty()) {
+					cells.remove(cellKey);
+				}
+			}
+		}
+
+		private static long cellKey(long key) {
+			return ChunkPos.asLong(BlockPos.getX(key) >> CELL_SHIFT, BlockPos.getZ(key) >> CELL_SHIFT);
+		}
+	}
+
+	/*
+	 *
+	 */
+	private static class Entry<T> {
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<Entry> RECLAIMED = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "reclaimed");
+
+		final long key;
+		final long regionKey;
+		final long sequence;
+		final T value;
+		volatile boolean removed;
+		// whether this entry's tombstone has been uncounted
+		volatile int reclaimed;
+
+		Entry(long key, long regionKey, long sequence, T value) {
+			this.key = key;
+			this.regionKey = regionKey;
+			this.sequence = sequence;
+			this.value = value;
+		}
+
+		boolean reclaim() {
+			return RECLAIMED.compareAndSet(this, 0, 1);
+		}
+	}
+
+	/*
+	 *
+	 */
+	@FunctionalInterface
+	public interface SequencedConsumer<T> {
+		void accept(long sequence, T value);
+	}
+}
@@ -18,10 +18,11 @@
 package mod.gottsch.forge.treasure2.core.cache;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedContext;
 import net.minecraft.resources.ResourceLocation;
 
@@ -32,7 +33,8 @@ import net.minecraft.resources.ResourceLocation;
  */
 public class DelayedFeatureSimpleDistanceCache {
 	
-	private Map<ResourceLocation, SimpleDistanceCache<GeneratedContext>> dimensionDistanceCache = new HashMap<>();
+	// read from concurrent worldgen threads
+	private Map<ResourceLocation, SimpleDistanceCache<GeneratedContext>> dimensionDistanceCache = new ConcurrentHashMap<>();
 	
 	private int delayCount = 0;
 	
@@ -49,6 +51,27 @@ public class DelayedFeatureSimpleDistanceCache {
 		this.delayCount = delayCount;
 	}
 
+	/**
+	 * 
+	 * @param dimension
+	 * @return the cache of the dimension or null
+	 */
+	public SimpleDistanceCache<GeneratedContext> get(ResourceLocation dimension) {
+		return dimensionDistanceCache.get(dimension);
+	}
+
+	/**
+	 * 
+	 * @param dimension
+	 * @param start
+	 * @param end
+	 * @return whether any cached feature of the dimension is within the area
+	 */
+	public boolean withinArea(ResourceLocation dimension, ICoords start, ICoords end) {
+		SimpleDistanceCache<GeneratedContext> cache = dimensionDistanceCache.get(dimension);
+		return cache != null && cache.withinArea(start, end);
+	}
+
 	public Map<ResourceLocation, SimpleDistanceCache<GeneratedContext>> getDimensionDistanceCache() {
 		return dimensionDistanceCache;
 	}
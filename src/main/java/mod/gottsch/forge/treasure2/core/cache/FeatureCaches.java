@@ -139,7 +139,7 @@ public class FeatureCaches {
 			CompoundTag dimensionCacheTag = new CompoundTag();
 			dimensionCacheTag.putString(DIMENSION_NAME, dimension.toString());
 			ListTag dataTag = new ListTag();
-			cache.getValues().forEach(datum -> {
+			cache.forEach(datum -> {
 				CompoundTag datumTag = datum.save();
 				// add entry to list
 				dataTag.add(datumTag);	
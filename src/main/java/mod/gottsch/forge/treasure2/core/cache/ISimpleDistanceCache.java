@@ -17,7 +17,7 @@
  */
 package mod.gottsch.forge.treasure2.core.cache;
 
-import java.util.List;
+import java.util.Collection;
 
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 
@@ -61,8 +61,12 @@ public interface ISimpleDistanceCache<T> {
 	public boolean withinArea(ICoords start, ICoords end);
 	
 	/**
-	 * This will not update parent collection.
+	 * A read-only view of the cached objects.
 	 * @return
 	 */
-	List<T> getValues();
+	Collection<T> getValues();
+
+	boolean isEmpty();
+
+	int size();
 }
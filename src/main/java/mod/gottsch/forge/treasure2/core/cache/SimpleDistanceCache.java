@@ -19,15 +19,15 @@
  */
 package mod.gottsch.forge.treasure2.core.cache;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
-import mod.gottsch.neo.gottschcore.bst.CoordsInterval;
-import mod.gottsch.neo.gottschcore.bst.CoordsIntervalTree;
-import mod.gottsch.neo.gottschcore.bst.IInterval;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.Treasure;
+import net.minecraft.core.BlockPos;
 
 /**
  * 
@@ -37,21 +37,26 @@ import mod.gottsch.forge.treasure2.Treasure;
  */
 public class SimpleDistanceCache<T> implements ISimpleDistanceCache<T> {
 
-	private LinkedList<T> cache;
+	/*
+	 * the cached objects in insertion order - O(1) membership tests, replacement and removal
+	 */
+	private final Set<T> cache;
+	private final Collection<T> cacheView;
 	private int maxSize;
 	
 	/*
-	 * a Interval BST registry to determine the proximity of pois.
+	 * a region-sharded index to determine the proximity of pois. keyed by the packed x/z position (y = 0).
 	 */
-	private final CoordsIntervalTree<T> distanceCache;
+	private final ConcurrentRegionIndex<T> distanceCache;
 	
 	/**
 	 * 
 	 */
 	public SimpleDistanceCache(int size) {
-		cache = new LinkedList<>();
+		cache = new LinkedHashSet<>();
+		cacheView = Collections.unmodifiableCollection(cache);
 		maxSize = size;
-		distanceCache = new CoordsIntervalTree<>();
+		distanceCache = new ConcurrentRegionIndex<>();
 	}
 	
 	/**
@@ -60,7 +65,7 @@ public class SimpleDistanceCache<T> implements ISimpleDistanceCache<T> {
 	 * @return
 	 */
 	@Override
-	public boolean isCached(final T object) {
+	public synchronized boolean isCached(final T object) {
 		return cache.contains(object);
 	}
 	
@@ -74,13 +79,22 @@ public class SimpleDistanceCache<T> implements ISimpleDistanceCache<T> {
 			return;
 		}
 		
-		// test the size
-		if (cache.size() >= maxSize) {
-			// remove the first element in list (oldest).
-			cache.pollFirst();
+		T previous = distanceCache.put(asLong(key), object);
+		if (previous != null) {
+			// replaced the object at the same position - the size is unchanged
+			cache.remove(previous);
+		}
+		cache.add(object);
+		
+		// test the size - only a new position can overflow the cache
+		while (cache.size() > maxSize) {
+			// remove the oldest element
+			T oldest = distanceCache.pollEldest();
+			if (oldest == null) {
+				break;
+			}
+			cache.remove(oldest);
 		}
-		cache.add(object);		
-		distanceCache.insert(new CoordsInterval<>(key.withY(0), key.add(1, -key.getY(), 1), object));
 	}
 	
 	/**
@@ -89,51 +103,70 @@ public class SimpleDistanceCache<T> implements ISimpleDistanceCache<T> {
 	 */
 	@Override
 	public synchronized void uncache(ICoords key) {
-		IInterval<T> interval = distanceCache.delete(new CoordsInterval<>(key, key, null));
-		T data = interval.getData();
-		
-		if (isCached(data)) {
-			cache.removeLast();
+		T data = distanceCache.remove(asLong(key));
+		if (data != null) {
+			cache.remove(data);
 		}
 	}
 	
 	/**
-	 * 
+	 * Stops at the first cached position that overlaps the area.
+	 * Only the chunk buckets that the area covers are probed (or the occupied ones, when there
+	 * are fewer), so the cost is O(covered chunks) rather than the O(log n) of a sorted index -
+	 * positions arrive in worldgen order, so keeping one sorted would cost more on every cache()
+	 * than it saves here.
 	 * @param start
 	 * @param end
 	 * @return
 	 */
 	@Override
 	public boolean withinArea(ICoords start, ICoords end) {
-		List<IInterval<T>> overlaps = distanceCache.getOverlapping(distanceCache.getRoot(), new CoordsInterval<>(start, end));
-		if (overlaps.isEmpty()) {
-			return false;
-		}
-		return true;
+		return distanceCache.anyWithin(start.getX(), start.getZ(), end.getX(), end.getZ());
 	}
 	
 	/**
-	 * This will not update parent collection.
+	 * A read-only view, oldest first. Callers that may run concurrently with cache() should use forEach().
 	 * @return
 	 */
 	@Override
-	public List<T> getValues() {
-		return new ArrayList<>(cache);
+	public Collection<T> getValues() {
+		return cacheView;
+	}
+	
+	/**
+	 * Iterates the cached objects, oldest first.
+	 * @param consumer
+	 */
+	public synchronized void forEach(Consumer<T> consumer) {
+		cache.forEach(consumer);
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return distanceCache.isEmpty();
+	}
+	
+	@Override
+	public int size() {
+		return distanceCache.size();
 	}
 	
 	/**
 	 * 
 	 */
 	@Override
-	public void clear() {
+	public synchronized void clear() {
 		cache.clear();
 		distanceCache.clear();
 	}
 
+	private static long asLong(ICoords key) {
+		return BlockPos.asLong(key.getX(), 0, key.getZ());
+	}
+	
 	@Override
-	public String toString() {
-		return "SimpleDistanceCache [cache=" + cache + ", maxSize=" + maxSize + ", distanceCache=" + distanceCache
-				+ "]";
+	public synchronized String toString() {
+		return "SimpleDistanceCache [cache=" + cache + ", maxSize=" + maxSize + "]";
 	}
 	
 	// TEMP
@@ -0,0 +1,82 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.command;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.mojang.brigadier.CommandDispatcher;
+
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Displays, dumps or resets the feature placement metrics.
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class FeatureMetricsCommand {
+
+	/**
+	 * 
+	 * @param dispatcher
+	 */
+	public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher
+		.register(Commands.literal("t2-metrics")
+				.requires(source -> {
+					return source.hasPermission(2);
+				})
+				.executes(source -> {
+					return show(source.getSource());
+				})
+				.then(Commands.literal("reset")
+						.executes(source -> {
+							FeatureMetrics.reset();
+							source.getSource().sendSuccess(() -> Component.literal("Feature metrics reset."), true);
+							return 1;
+						})
+						)
+				.then(Commands.literal("dump")
+						.executes(source -> {
+							Path path = FeatureMetrics.getDumpPath(source.getSource().getServer());
+							FeatureMetrics.dump(path);
+							source.getSource().sendSuccess(() -> Component.literal("Feature metrics written to " + path), true);
+							return 1;
+						})
+						)
+				);
+	}
+
+	/**
+	 * 
+	 * @param source
+	 * @return
+	 */
+	private static int show(CommandSourceStack source) {
+		if (!FeatureMetrics.isEnabled()) {
+			source.sendFailure(Component.literal("Feature metrics are disabled. Set metrics.enableFeatureMetrics in the server config."));
+			return 0;
+		}
+		List<String> lines = FeatureMetrics.report();
+		lines.forEach(line -> source.sendSuccess(() -> Component.literal(line), false));
+		return 1;
+	}
+}
@@ -37,5 +37,6 @@ public class TreasureCommands {
 		SpawnMarkerCommand.register(event.getDispatcher());
 		SpawnWellCommand.register(event.getDispatcher());
 		SpawnWitherTreeCommand.register(event.getDispatcher());
+		FeatureMetricsCommand.register(event.getDispatcher());
 	}
 }
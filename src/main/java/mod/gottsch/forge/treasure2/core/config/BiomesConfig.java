@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import mod.gottsch.neo.gottschcore.biome.BiomeTypeHolder;
+import mod.gottsch.forge.treasure2.core.biome.BiomeFilter;
 import net.minecraftforge.common.ForgeConfigSpec.Builder;
 import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
 
@@ -42,6 +43,9 @@ public class BiomesConfig {
 //	public List<Biome> blackList = new ArrayList<>(5);
 	public List<BiomeTypeHolder> typeHolderWhiteList = new ArrayList<>(5);
 	public List<BiomeTypeHolder> typeHolderBlackList = new ArrayList<>(5);
+
+	// recompiled whenever the config values are reloaded
+	private volatile BiomeFilter filter;
 	
 	/**
 	 * 
@@ -81,6 +85,21 @@ public class BiomesConfig {
 //		BiomeHelper.loadBiomeList(this.blackList.get(), this.typeHolderBlackList);	
 	}
 
+	/**
+	 * 
+	 * @return the white/black lists compiled into a BiomeFilter
+	 */
+	public BiomeFilter getFilter() {
+		List<? extends String> white = whiteList.get();
+		List<? extends String> black = blackList.get();
+		BiomeFilter compiled = filter;
+		if (compiled == null || !compiled.isCompiledFrom(white, black)) {
+			compiled = BiomeFilter.compile(white, black);
+			filter = compiled;
+		}
+		return compiled;
+	}
+
 	@Override
 	public String toString() {
 		return "BiomesConfig [whiteList=" + whiteList.get() + ", blackList=" + blackList + ", typeWhiteList=" + typeWhiteList.get()
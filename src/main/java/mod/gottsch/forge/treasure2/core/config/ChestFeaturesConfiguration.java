@@ -24,6 +24,7 @@ import java.util.Optional;
 
 import mod.gottsch.neo.gottschcore.enums.IRarity;
 import mod.gottsch.forge.treasure2.Treasure;
+import mod.gottsch.forge.treasure2.core.biome.BiomeFilter;
 
 /**
  * 
@@ -181,6 +182,8 @@ public class ChestFeaturesConfiguration {
 		private List<String> biomeTypeWhitelist;
 		private List<String> biomeBlacklist;
 		private List<String> biomeTypeBlacklist;
+		// compiled from the biome white/black lists on first use
+		private transient volatile BiomeFilter biomeFilter;
 		
 		public String getRarity() {
 			return rarity;
@@ -230,7 +233,14 @@ public class ChestFeaturesConfiguration {
 		public void setBiomeTypeBlacklist(List<String> biomeTypeBlacklist) {
 			this.biomeTypeBlacklist = biomeTypeBlacklist;
 		}
-		
+		public BiomeFilter getBiomeFilter() {
+			BiomeFilter filter = biomeFilter;
+			if (filter == null || !filter.isCompiledFrom(biomeWhitelist, biomeBlacklist)) {
+				filter = BiomeFilter.compile(biomeWhitelist, biomeBlacklist);
+				biomeFilter = filter;
+			}
+			return filter;
+		}
 	}
 	
 	/*
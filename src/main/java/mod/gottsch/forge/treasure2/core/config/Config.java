@@ -167,6 +167,7 @@ public class Config extends AbstractConfig {
 		public Pits pits;
 		public Mobs mobs;
 		public Maps maps;
+		public Metrics metrics;
 
 		/**
 		 * 
@@ -183,6 +184,7 @@ public class Config extends AbstractConfig {
 			pits = new Pits(builder);
 			mobs = new Mobs(builder);
 			maps = new Maps(builder);
+			metrics = new Metrics(builder);
 		}
 
 		/*
@@ -562,11 +564,37 @@ public class Config extends AbstractConfig {
 			}
 		}
 
+		/*
+		 * 
+		 */
+		public static class Metrics {
+			public BooleanValue enableFeatureMetrics;
+			public ConfigValue<Integer> dumpInterval;
+
+			public Metrics(final ForgeConfigSpec.Builder builder)	 {
+				builder.comment(CATEGORY_DIV, " Metrics properties", CATEGORY_DIV)
+				.push("metrics");
+
+				enableFeatureMetrics = builder
+						.comment(" Enable/disable recording per-phase timings of the chest and well features during world generation.",
+								" View with the command /t2-metrics.")
+						.define("enableFeatureMetrics", false);
+
+				dumpInterval = builder
+						.comment(" The interval, in seconds, to write the feature metrics to [world]/data/treasure2/feature_metrics.txt.",
+								" 0 = disabled.")
+						.defineInRange("dumpInterval", 0, 0, 86400);
+
+				builder.pop();
+			}
+		}
+
 		/*
 		 * 
 		 */
 		public static class Effects {
 			public BooleanValue enableUndiscoveredEffects;
+			public ConfigValue<Integer> mistEffectInterval;
 
 			public Effects(final ForgeConfigSpec.Builder builder)	 {
 				builder.comment(CATEGORY_DIV, " Effects and GUI Elements", CATEGORY_DIV)
@@ -577,6 +605,10 @@ public class Config extends AbstractConfig {
 								" Note: due to changes in Forge, this config option will NOT affect the light that undiscovered chests produce in 1.19.2+.")
 						.define("enableUndiscoveredEffects", true);
 
+				mistEffectInterval = builder
+						.comment(" The minimum number of ticks between poison/wither mist effect messages, per player and per effect.")
+						.defineInRange("mistEffectInterval", 20, 1, 1200);
+
 				builder.pop();
 			}
 		}
@@ -22,6 +22,7 @@ import java.util.List;
 
 import mod.gottsch.neo.gottschcore.spatial.Coords;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
+import mod.gottsch.forge.treasure2.core.biome.BiomeFilter;
 
 /**
  * 
@@ -39,6 +40,8 @@ public class StructureConfiguration {
 		private List<String> biomeWhitelist;
 		private List<String> biomeBlacklist;
 		private Position offset;
+		// compiled from the biome white/black lists on first use
+		private transient volatile BiomeFilter biomeFilter;
 		
 		public String getName() {
 			return name;
@@ -64,6 +67,14 @@ public class StructureConfiguration {
 		public void setBiomeBlacklist(List<String> biomeBlacklist) {
 			this.biomeBlacklist = biomeBlacklist;
 		}
+		public BiomeFilter getBiomeFilter() {
+			BiomeFilter filter = biomeFilter;
+			if (filter == null || !filter.isCompiledFrom(getBiomeWhitelist(), getBiomeBlacklist())) {
+				filter = BiomeFilter.compile(getBiomeWhitelist(), getBiomeBlacklist());
+				biomeFilter = filter;
+			}
+			return filter;
+		}
 		public Position getOffset() {
 			if (offset == null) {
 				offset = new Position();
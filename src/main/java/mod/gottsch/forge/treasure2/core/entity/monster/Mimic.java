@@ -19,6 +19,7 @@ package mod.gottsch.forge.treasure2.core.entity.monster;
 
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.core.sound.TreasureSounds;
+import mod.gottsch.forge.treasure2.core.util.TreasureAccessors;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -27,9 +28,9 @@ import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.Mth;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.MobType;
 import net.minecraft.world.entity.ai.goal.FloatGoal;
 import net.minecraft.world.entity.ai.goal.MeleeAttackGoal;
@@ -41,7 +42,6 @@ import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 
 /**
  * 
@@ -53,16 +53,9 @@ public abstract class Mimic extends Monster {
 	private static final EntityDataAccessor<Float> DATA_AMOUNT = SynchedEntityData.defineId(PirateChestMimic.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Boolean >TARGET = SynchedEntityData.defineId(PirateChestMimic.class, EntityDataSerializers.BOOLEAN);
 	
-	/*
-		MC 1.18.2: net/minecraft/world/entity/Mob.lootTable
-		Name: cd => f_21355_ => lootTable
-		Side: BOTH
-		AT: public net.minecraft.world.entity.Mob f_21355_ # lootTable
-		Type: net/minecraft/resources/ResourceLocation
-	 */
-	private static final String SRG_LOOT_TABLE = "f_21355_";
-	
+	// the current lid amount, simulated on both sides
 	private float amount;
+	private float prevAmount;
 	/** Flag whether lid is opening (or closing */
 	public boolean isOpening = true;
 	
@@ -86,46 +79,71 @@ public abstract class Mimic extends Monster {
 		this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, Player.class, true));
 	}
 	
+	/**
+	 * The lid animation runs on both sides from the same rules.
+	 * DATA_AMOUNT is only written on transitions (waking, opening/closing, gaining/losing a target)
+	 * to re-anchor the client, instead of on every tick.
+	 */
 	@Override
 	public void aiStep() {
-		if (!WorldInfo.isClientSide(level())) {
-			if (!isActive() && amount < 1F) {
-				amount += 0.05;
-				setAmount(amount);
-				
-				if (amount > 1F) {
-					amount = 1F;
+		prevAmount = amount;
+		boolean wasActive = isActive();
+		float anchor = Float.NaN;
+
+		if (!isActive() && amount < 1F) {
+			amount += 0.05;
+			
+			if (amount > 1F) {
+				amount = 1F;
+				if (!WorldInfo.isClientSide(level())) {
 					setActive(true);
 				}
 			}
-			else {
-				if (amount <= 0F) {
-					amount = 0F;
-					isOpening = true;
-				}
-				if (amount >=1F) {
-					amount = 1F;
-					isOpening = false;
-				}
-				
-				if (isOpening) {
-					amount += 0.1F;
-				}
-				else {
-					amount -= 0.1F;
-				}
-				setAmount(amount);
+		}
+		else {
+			if (amount <= 0F) {
+				amount = 0F;
+				anchor = isOpening ? Float.NaN : amount;
+				isOpening = true;
+			}
+			if (amount >=1F) {
+				amount = 1F;
+				anchor = isOpening ? amount : Float.NaN;
+				isOpening = false;
 			}
 			
-			if (this.getTarget() != null) {
-				setHasTarget(true);
-			} else {
-				setHasTarget(false);
+			if (isOpening) {
+				amount += 0.1F;
+			}
+			else {
+				amount -= 0.1F;
+			}
+		}
+
+		if (!WorldInfo.isClientSide(level())) {
+			boolean target = this.getTarget() != null;
+			boolean targetChanged = target != hasTarget();
+			setHasTarget(target);
+
+			if (!Float.isNaN(anchor)) {
+				// the bound the lid turned at, the client steps on from there
+				this.entityData.set(DATA_AMOUNT, anchor);
+			}
+			else if (wasActive != isActive() || targetChanged) {
+				this.entityData.set(DATA_AMOUNT, amount);
 			}
 		}		
 		super.aiStep();
 	}
 	
+	@Override
+	public void onSyncedDataUpdated(EntityDataAccessor<?> key) {
+		super.onSyncedDataUpdated(key);
+		if (DATA_AMOUNT.equals(key) && level() != null && WorldInfo.isClientSide(level())) {
+			amount = this.entityData.get(DATA_AMOUNT);
+		}
+	}
+	
 	@Override
 	public void addAdditionalSaveData(CompoundTag tag) {
 		super.addAdditionalSaveData(tag);
@@ -185,7 +203,7 @@ public abstract class Mimic extends Monster {
 	}
 	
 	public void setLootTable(ResourceLocation lootTable) {
-		ObfuscationReflectionHelper.setPrivateValue(Mob.class, this, lootTable, SRG_LOOT_TABLE);
+		TreasureAccessors.setLootTable(this, lootTable);
 	}
 	
 	@Override
@@ -212,10 +230,21 @@ public abstract class Mimic extends Monster {
 	}
 	
 	public float getAmount() {
-		return this.entityData.get(DATA_AMOUNT);
+		return amount;
+	}
+
+	/**
+	 * 
+	 * @param partialTick
+	 * @return the lid amount interpolated between the last two ticks
+	 */
+	public float getAmount(float partialTick) {
+		return Mth.lerp(partialTick, prevAmount, amount);
 	}
 
 	public void setAmount(float amount) {
+		this.amount = amount;
+		this.prevAmount = amount;
 		this.entityData.set(DATA_AMOUNT, amount);
 	}
 }
@@ -23,10 +23,15 @@ import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.item.WealthItem;
 import mod.gottsch.forge.treasure2.core.tags.TreasureTags;
+import mod.gottsch.forge.treasure2.core.wishable.WishableTracker;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -42,7 +47,41 @@ public class ItemEventHandler {
 	public static Item lastTossed;
 	public static boolean isWishable;
 	
-	// NOTE this has been superceded by PlayerEventHandler.playerTick()
+	/**
+	 * Track wishables as they enter a level, whether tossed, dropped or loaded from disk.
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onEntityJoin(EntityJoinLevelEvent event) {
+		if (!event.getLevel().isClientSide() && event.getEntity() instanceof ItemEntity itemEntity) {
+			WishableTracker.track(itemEntity);
+		}
+	}
+
+	/**
+	 * 
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onToss(ItemTossEvent event) {
+		if (!event.getEntity().level().isClientSide()) {
+			WishableTracker.track(event.getEntity());
+		}
+	}
+
+	@SubscribeEvent
+	public static void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase == TickEvent.Phase.END && event.getServer().getTickCount() % 5 == 0) {
+			WishableTracker.check();
+		}
+	}
+
+	@SubscribeEvent
+	public static void onServerStopped(ServerStoppedEvent event) {
+		WishableTracker.clear();
+	}
+
+	// NOTE this has been superceded by WishableTracker
 	/**
 	 * 
 	 * @param event
@@ -17,7 +17,6 @@
  */
 package mod.gottsch.forge.treasure2.core.event;
 
-import java.util.Random;
 
 import mod.gottsch.neo.gottschcore.random.RandomHelper;
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
@@ -63,7 +62,7 @@ public class LivingEventHandler {
 			if (heldStack != null & heldStack.getItem() instanceof IWeapon) {
 				IWeapon weapon = (IWeapon) heldStack.getItem();
 				Treasure.LOGGER.debug("original damage -> {}", event.getAmount());
-				if (RandomHelper.checkProbability(new Random(), weapon.getCriticalChance() * 100)) {
+				if (RandomHelper.checkProbability(player.getRandom(), weapon.getCriticalChance() * 100)) {
 					event.setAmount(event.getAmount() + (weapon.getCriticalDamage() * event.getAmount()));
 					Treasure.LOGGER.debug("new + critical damage -> {}", event.getAmount());
 				}
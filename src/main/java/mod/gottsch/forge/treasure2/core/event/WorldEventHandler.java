@@ -24,6 +24,9 @@ import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.cache.FeatureCaches;
 import mod.gottsch.forge.treasure2.core.config.Config;
+import mod.gottsch.forge.treasure2.core.loot.InjectLootBindings;
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics;
+import mod.gottsch.forge.treasure2.core.persistence.RegionShardStorage;
 import mod.gottsch.forge.treasure2.core.persistence.TreasureSavedData;
 import mod.gottsch.forge.treasure2.core.registry.DimensionalGeneratedCache;
 import mod.gottsch.forge.treasure2.core.registry.RarityLevelWeightedChestGeneratorRegistry;
@@ -31,10 +34,17 @@ import mod.gottsch.forge.treasure2.core.registry.TreasureLootTableRegistry;
 import mod.gottsch.forge.treasure2.core.registry.TreasureTemplateRegistry;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
 import mod.gottsch.forge.treasure2.core.util.TreasureDataFixer;
+import mod.gottsch.forge.treasure2.core.world.proximity.PlayerProximityService;
+import net.minecraft.Util;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.event.OnDatapackSyncEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -48,6 +58,8 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 @Mod.EventBusSubscriber(modid = Treasure.MODID, bus = EventBusSubscriber.Bus.FORGE)
 public class WorldEventHandler {
 
+	private static final String SHARD_FOLDER = "data";
+
 	private static Path worldSavePath;
 	private static boolean isLoaded = false;
 
@@ -75,6 +87,9 @@ public class WorldEventHandler {
 							
 					Treasure.LOGGER.debug("reading in chests config...");
 					DimensionalGeneratedCache.initialize();
+					DimensionalGeneratedCache.setStorage(new RegionShardStorage(((ServerLevel)event.getLevel()).getServer()
+							.getWorldPath(LevelResource.ROOT).resolve(SHARD_FOLDER).resolve(Treasure.MODID)));
+					DimensionalGeneratedCache.loadShards();
 					RarityLevelWeightedChestGeneratorRegistry.initialize();
 					
 					// initialize feature caches
@@ -98,4 +113,83 @@ public class WorldEventHandler {
 			}
 		}
 	}
+
+	/**
+	 * Flush the changed chest cache region shards with every world save (including autosaves).
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onWorldSave(LevelEvent.Save event) {
+		if (WorldInfo.isServerSide((Level)event.getLevel())) {
+			DimensionalGeneratedCache.saveShards();
+		}
+	}
+
+	/**
+	 * 
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onLevelTick(TickEvent.LevelTickEvent event) {
+		if (event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel serverLevel) {
+			PlayerProximityService.tick(serverLevel);
+		}
+	}
+
+	/**
+	 * Periodically write the feature metrics, if enabled.
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || !FeatureMetrics.isEnabled()) {
+			return;
+		}
+		int interval = Config.SERVER.metrics.dumpInterval.get();
+		if (interval > 0 && event.getServer().getTickCount() % (interval * 20) == 0) {
+			Path path = FeatureMetrics.getDumpPath(event.getServer());
+			Util.ioPool().execute(() -> FeatureMetrics.dump(path));
+		}
+	}
+
+	/**
+	 * 
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onWorldUnload(LevelEvent.Unload event) {
+		if (event.getLevel() instanceof ServerLevel serverLevel) {
+			PlayerProximityService.clear(serverLevel);
+		}
+	}
+
+	/**
+	 * Resolves the inject loot pools against the loaded loot data.
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onServerStarted(ServerStartedEvent event) {
+		InjectLootBindings.bind(event.getServer().getLootData());
+	}
+
+	/**
+	 * Re-resolves the inject loot pools after a /reload, which replaces the loot data.
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onDatapackSync(OnDatapackSyncEvent event) {
+		// a null player is a reload of all the players, otherwise a single player joining
+		if (event.getPlayer() == null) {
+			InjectLootBindings.bind(event.getPlayerList().getServer().getLootData());
+		}
+	}
+
+	/**
+	 * Releases the inject loot pools, which reference the stopped server's loot data.
+	 * @param event
+	 */
+	@SubscribeEvent
+	public static void onServerStopped(ServerStoppedEvent event) {
+		InjectLootBindings.invalidate();
+	}
 }
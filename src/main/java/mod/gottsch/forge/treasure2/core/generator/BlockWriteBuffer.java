@@ -0,0 +1,203 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.generator;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import mod.gottsch.neo.gottschcore.spatial.ICoords;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Collects the block changes of a generator run and applies them per chunk section in a single pass.
+ * Reads through the buffer see the pending changes, so generators that inspect what they have
+ * just built behave the same as when writing directly to the level.
+ * Neighbor and shape updates are suppressed during the write pass and issued once afterwards,
+ * only for the blocks on the edge of the batch - updates between two buffered blocks are redundant.
+ * During feature generation (a WorldGenRegion) no updates are issued at all, as per vanilla features,
+ * since the neighbors can lie outside of the writable area.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class BlockWriteBuffer {
+	private static final int DEFERRED_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+	private static final int WORLDGEN_FLAGS = Block.UPDATE_CLIENTS;
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final LevelAccessor level;
+	// section key -> (block pos key -> state), in insertion order
+	private final Long2ObjectLinkedOpenHashMap<Long2ObjectLinkedOpenHashMap<BlockState>> sections = new Long2ObjectLinkedOpenHashMap<>();
+	private int size;
+
+	/**
+	 * 
+	 * @param level
+	 */
+	public BlockWriteBuffer(LevelAccessor level) {
+		this.level = level;
+	}
+
+	/**
+	 * Queues a block change. A later change to the same position replaces the earlier one.
+	 * @param pos
+	 * @param state
+	 */
+	public void setBlock(BlockPos pos, BlockState state) {
+		long sectionKey = SectionPos.asLong(pos);
+		Long2ObjectLinkedOpenHashMap<BlockState> section = sections.get(sectionKey);
+		if (section == null) {
+			section = new Long2ObjectLinkedOpenHashMap<>();
+			sections.put(sectionKey, section);
+		}
+		if (section.put(pos.asLong(), state) == null) {
+			size++;
+		}
+	}
+
+	public void setBlock(ICoords coords, BlockState state) {
+		setBlock(coords.toPos(), state);
+	}
+
+	/**
+	 * Equivalent of GeneratorUtil.replaceWithBlockState() - don't change if old block is air.
+	 * @param coords
+	 * @param state
+	 * @return
+	 */
+	public boolean replaceWithBlockState(ICoords coords, BlockState state) {
+		BlockPos pos = coords.toPos();
+		if (getBlockState(pos).isAir()) {
+			return false;
+		}
+		setBlock(pos, state);
+		return true;
+	}
+
+	public boolean replaceWithBlock(ICoords coords, Block block) {
+		return replaceWithBlockState(coords, block.defaultBlockState());
+	}
+
+	/**
+	 * 
+	 * @param pos
+	 * @return the pending state if there is one, else the state in the level
+	 */
+	public BlockState getBlockState(BlockPos pos) {
+		Long2ObjectLinkedOpenHashMap<BlockState> section = sections.get(SectionPos.asLong(pos));
+		if (section != null) {
+			BlockState state = section.get(pos.asLong());
+			if (state != null) {
+				return state;
+			}
+		}
+		return level.getBlockState(pos);
+	}
+
+	public BlockState getBlockState(ICoords coords) {
+		return getBlockState(coords.toPos());
+	}
+
+	/**
+	 * 
+	 * @param pos
+	 * @return whether a change is pending at the position
+	 */
+	public boolean contains(BlockPos pos) {
+		Long2ObjectLinkedOpenHashMap<BlockState> section = sections.get(SectionPos.asLong(pos));
+		return section != null && section.containsKey(pos.asLong());
+	}
+
+	public boolean contains(ICoords coords) {
+		return contains(coords.toPos());
+	}
+
+	/**
+	 * Applies all pending changes and clears the buffer.
+	 * @return the number of blocks that actually changed
+	 */
+	public int flush() {
+		if (size == 0) {
+			return 0;
+		}
+		boolean worldGen = level instanceof WorldGenRegion;
+		int flags = worldGen ? WORLDGEN_FLAGS : DEFERRED_FLAGS;
+		LongOpenHashSet changed = new LongOpenHashSet(size);
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+		// write pass - section by section, no neighbor or shape updates
+		for (Long2ObjectLinkedOpenHashMap<BlockState> section : sections.values()) {
+			for (Long2ObjectMap.Entry<BlockState> entry : section.long2ObjectEntrySet()) {
+				pos.set(entry.getLongKey());
+				// skip no-op writes - not every LevelAccessor (ie WorldGenRegion) filters them
+				if (level.getBlockState(pos) == entry.getValue()) {
+					continue;
+				}
+				if (level.setBlock(pos, entry.getValue(), flags)) {
+					changed.add(entry.getLongKey());
+				}
+			}
+		}
+
+		if (worldGen) {
+			sections.clear();
+			size = 0;
+			return changed.size();
+		}
+
+		// update pass - only the edge of the batch can affect blocks outside of it
+		BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+		LongIterator iterator = changed.iterator();
+		while (iterator.hasNext()) {
+			long key = iterator.nextLong();
+			pos.set(key);
+			boolean edge = false;
+			for (Direction direction : DIRECTIONS) {
+				neighbor.setWithOffset(pos, direction);
+				if (!changed.contains(neighbor.asLong())) {
+					edge = true;
+					break;
+				}
+			}
+			if (edge) {
+				BlockState state = level.getBlockState(pos);
+				state.updateNeighbourShapes(level, pos, Block.UPDATE_CLIENTS);
+				level.blockUpdated(pos, state.getBlock());
+			}
+		}
+
+		sections.clear();
+		size = 0;
+		return changed.size();
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
@@ -17,6 +17,9 @@
  */
 package mod.gottsch.forge.treasure2.core.generator.chest;
 
+import mod.gottsch.forge.treasure2.core.enums.LootTableType;
+import mod.gottsch.forge.treasure2.core.loot.InjectLootBindings;
+
 /**
  * 
  * @author Mark Gottschling on May 1, 2023
@@ -24,8 +27,20 @@ package mod.gottsch.forge.treasure2.core.generator.chest;
  */
 public abstract class AbstractChestGenerator implements IChestGenerator {
 
+	/*
+	 * the pre-resolved inject loot pools of this generator, shared by all instances of the class
+	 */
+	private final InjectLootBindings.Bindings injectLootBindings;
+
 	// TODO we could pass in the rarity here and save it
 	public AbstractChestGenerator() {
+		injectLootBindings = InjectLootBindings.register(getClass(), LootTableType.CHESTS, 
+				rarity -> buildLootTableList(LootTableType.INJECTS, rarity));
 	}	
 
+	@Override
+	public InjectLootBindings.Bindings getInjectLootBindings() {
+		return injectLootBindings;
+	}
+
 }
@@ -57,6 +57,8 @@ import mod.gottsch.forge.treasure2.core.generator.marker.StructureMarkerGenerato
 import mod.gottsch.forge.treasure2.core.item.LockItem;
 import mod.gottsch.forge.treasure2.core.lock.LockLayout;
 import mod.gottsch.forge.treasure2.core.lock.LockState;
+import mod.gottsch.forge.treasure2.core.loot.InjectLootBindings;
+import mod.gottsch.forge.treasure2.core.random.TreasureRandom;
 import mod.gottsch.forge.treasure2.core.registry.ChestRegistry;
 import mod.gottsch.forge.treasure2.core.registry.DimensionalGeneratedCache;
 import mod.gottsch.forge.treasure2.core.registry.GeneratedCache;
@@ -64,7 +66,7 @@ import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
 import mod.gottsch.forge.treasure2.core.registry.MimicRegistry;
 import mod.gottsch.forge.treasure2.core.registry.TreasureLootTableRegistry;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedChestContext;
-import mod.gottsch.forge.treasure2.core.registry.support.GeneratedChestContext.GeneratedType;
+import mod.gottsch.forge.treasure2.core.util.BiomePreviewMapRenderer;
 import mod.gottsch.forge.treasure2.core.util.LangUtil;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
 import mod.gottsch.forge.treasure2.core.world.feature.IFeatureGenContext;
@@ -290,6 +292,14 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 		return Optional.ofNullable(lootTableShell);	
 	}
 
+	/**
+	 * The inject loot bindings of this generator. Implementations should register once and hold on to them.
+	 * @return
+	 */
+	default public InjectLootBindings.Bindings getInjectLootBindings() {
+		return InjectLootBindings.register(getClass(), LootTableType.CHESTS, rarity -> buildLootTableList(LootTableType.INJECTS, rarity));
+	}
+
 	/**
 	 * 
 	 * @param key
@@ -413,25 +423,20 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 		// fetch all injected loot tables by rarity
 		// NOTE removed the category. trying to keep it as straight forward as possible
 		Treasure.LOGGER.debug("searching for injectable tables for category ->{}, rarity -> {}", LootTableType.INJECTS, rarity);
-		List<LootTableShell> injectLootTableShells = buildLootTableList(LootTableType.INJECTS, rarity);
-		// NOTE injects are special case because they have 2 top-levels ex inject/chests, inject/wishables, so the list has to be filtered
-		injectLootTableShells = injectLootTableShells
-				.stream()
-				.filter(s -> s.getResourceLocation().getPath().contains(LootTableType.CHESTS.getValue()))
-				.toList();
-
-		if (!injectLootTableShells.isEmpty()) {
+		// NOTE injects are special case because they have 2 top-levels ex inject/chests, inject/wishables, so the binding filters by chests
+		InjectLootBindings.Binding binding = getInjectLootBindings().get(level.getServer().getLootData(), rarity);
+
+		if (!binding.isEmpty()) {
 			Treasure.LOGGER.debug("found injectable tables for category ->{}, rarity -> {}", lootTableShell.get().getCategory(), rarity);
-			Treasure.LOGGER.debug("size of injectable tables -> {}", injectLootTableShells.size());
+			Treasure.LOGGER.debug("size of injectable tables -> {}", binding.getTableCount());
 
-			// add predicate
-			treasureStacks.addAll(getInjectedLootItems(level, random, injectLootTableShells, lootContext, p -> {
-				return p.getName().equalsIgnoreCase(TREASURE_POOL);
-			}));
-			itemStacks.addAll(getInjectedLootItems(level, random, injectLootTableShells, lootContext, p -> {
-				return !p.getName().equalsIgnoreCase(TREASURE_POOL) ;
-			}));
-			//			itemStacks.addAll(TreasureLootTableRegistry.getLootTableMaster().getInjectedLootItems(world, random, injectLootTableShells.get(), lootContext));
+			// the pre-resolved pools are already separated into treasure and other pools
+			for (LootPool lootPool : binding.getTreasurePools()) {
+				lootPool.addRandomItems(treasureStacks::add, lootContext);
+			}
+			for (LootPool lootPool : binding.getOtherPools()) {
+				lootPool.addRandomItems(itemStacks::add, lootContext);
+			}
 		}
 
 		// check the inventory
@@ -440,8 +445,7 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 			ItemStackHandler inventory = (ItemStackHandler)itemHandler;
 
 			// add the treasure items to the chest
-			Random rand = new Random();
-			Collections.shuffle(treasureStacks, rand);
+			Collections.shuffle(treasureStacks, TreasureRandom.getRandom());
 			fillInventory(inventory, random, treasureStacks.stream().limit(treasureLootItemSize).collect(Collectors.toList()));
 
 			// add a treasure map if there is still space
@@ -507,31 +511,28 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 			IRarity mapRarity = getBoostedRarity(rarity, getRarityBoostAmount());
 			Treasure.LOGGER.debug("get rarity chests for dimension -> {}", dimension.toString());
 
-			//			GeneratedCache<GeneratedChestContext> generatedRegistry = DimensionalGeneratedCache.getChestGeneratedCache(dimension, FeatureType.TERRANEAN);
 			List<GeneratedCache<GeneratedChestContext>> caches = DimensionalGeneratedCache.getChestGeneratedCaches(dimension);
-			//			Optional<List<GeneratedChestContext>> generatedChestContexts = Optional.empty();
-			List<GeneratedChestContext> chestContexts = new ArrayList<>();
-			if (caches != null && !caches.isEmpty()) {
-				caches.forEach(cache -> {
-					Optional<List<GeneratedChestContext>> generatedChestContexts = cache.getByIRarity(mapRarity);
-					if (generatedChestContexts.isPresent()) {
-						chestContexts.addAll(generatedChestContexts.get());
-					}
-				});
+			// each cache keeps an index of the chests that are still valid map targets, so selection is O(caches)
+			int total = 0;
+			for (GeneratedCache<GeneratedChestContext> cache : caches) {
+				total += cache.getChartableCount(mapRarity);
 			}
-			//			if (generatedRegistry != null) {
-			//				generatedChestContexts = generatedRegistry.getByIRarity(mapRarity);
-			//			}
-
-			//			if (generatedChestContexts.isPresent()) {
-			if (!chestContexts.isEmpty()) {
-				Treasure.LOGGER.debug("got chestContexts by rarity -> {}", mapRarity);
-				List<GeneratedChestContext> validChestContexts = chestContexts.stream()
-						.filter(c -> c.getGeneratedType() == GeneratedType.CHEST && !c.isDiscovered() && !c.isCharted()).toList();
-
-				if (!validChestContexts.isEmpty()) {
-					Treasure.LOGGER.debug("got valid chestInfos; size -> {}", validChestContexts.size());
-					GeneratedChestContext chestContext = validChestContexts.get(random.nextInt(validChestContexts.size()));
+
+			if (total > 0) {
+				Treasure.LOGGER.debug("got valid chestInfos; size -> {}", total);
+				Optional<GeneratedChestContext> selectedContext = Optional.empty();
+				int index = random.nextInt(total);
+				for (GeneratedCache<GeneratedChestContext> cache : caches) {
+					int count = cache.getChartableCount(mapRarity);
+					if (index < count) {
+						selectedContext = cache.getRandomChartable(mapRarity, random);
+						break;
+					}
+					index -= count;
+				}
+
+				if (selectedContext.isPresent()) {
+					GeneratedChestContext chestContext = selectedContext.get();
 					Treasure.LOGGER.debug("using chestInfo -> {}", chestContext);
 					// build a map
 					ItemStack mapStack = createMap(world, chestContext.getCoords(), mapRarity, (byte)2);
@@ -543,12 +544,14 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 
 					// update the current chest gen context
 					GeneratedCache<GeneratedChestContext> generatedRegistry = DimensionalGeneratedCache.getChestGeneratedCache(dimension, chestContext.getFeatureType());
-					Optional<GeneratedChestContext> currentChestContext = generatedRegistry.get(rarity, chestCoords.toShortString());
+					generatedRegistry.markDirty(chestContext.getCoords());
+					Optional<GeneratedChestContext> currentChestContext = generatedRegistry.get(rarity, chestCoords);
 					if (currentChestContext.isPresent()) {
 						currentChestContext.get().setDiscovered(true);
+						generatedRegistry.markDirty(currentChestContext.get().getCoords());
 					}
 				}
-			}			
+			}
 		}	
 	}
 
@@ -562,7 +565,8 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 	 */
 	default public ItemStack createMap(Level world, ICoords coords, IRarity rarity, byte zoom) {
 		ItemStack itemStack = MapItem.create(world, coords.getX(), coords.getZ(), zoom, true, true);
-		MapItem.renderBiomePreviewMap((ServerLevel) world, itemStack);
+		// the biome preview is sampled off-thread and applied to the map data when ready
+		BiomePreviewMapRenderer.renderAsync((ServerLevel) world, itemStack);
 		MapItemSavedData.addTargetDecoration(itemStack, coords.toPos(), "+", MapDecoration.Type.RED_X);
 		itemStack.setHoverName(Component.translatable(LangUtil.screen("treasure_map." + rarity.getValue())));
 		return itemStack;
@@ -609,7 +613,7 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 	default public void fillInventory(ItemStackHandler inventory, RandomSource random, List<ItemStack> list) {
 		List<Integer> emptySlots = getEmptySlotsRandomized(inventory, random);
 		Treasure.LOGGER.debug("empty slots size -> {}", emptySlots.size());
-		this.shuffleItems(list, emptySlots.size(), new Random());
+		this.shuffleItems(list, emptySlots.size(), TreasureRandom.getRandom());
 
 		for (ItemStack itemstack : list) {
 			// if no more empty slots are available
@@ -723,7 +727,7 @@ public interface IChestGenerator extends IChestGeneratorEffects {
 			}
 		}
 
-		Collections.shuffle(list, new Random());
+		Collections.shuffle(list, TreasureRandom.getRandom());
 		return list;
 	}
 
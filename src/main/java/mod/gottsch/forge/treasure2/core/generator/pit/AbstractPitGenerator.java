@@ -21,7 +21,6 @@ package mod.gottsch.forge.treasure2.core.generator.pit;
 
 import java.util.Optional;
 
-import mod.gottsch.neo.gottschcore.block.BlockContext;
 import mod.gottsch.neo.gottschcore.block.entity.ProximitySpawnerBlockEntity;
 import mod.gottsch.neo.gottschcore.random.WeightedCollection;
 import mod.gottsch.neo.gottschcore.size.DoubleRange;
@@ -31,6 +30,7 @@ import mod.gottsch.neo.gottschcore.world.IWorldGenContext;
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.block.TreasureBlocks;
+import mod.gottsch.forge.treasure2.core.generator.BlockWriteBuffer;
 import mod.gottsch.forge.treasure2.core.generator.ChestGeneratorData;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorResult;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorUtil;
@@ -41,7 +41,6 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.monster.Skeleton;
 import net.minecraft.world.entity.monster.Zombie;
-import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.RotatedPillarBlock;
@@ -99,9 +98,11 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 	public boolean generateEntrance(IWorldGenContext context, ICoords surfaceCoords, ICoords spawnCoords) {
 		Treasure.LOGGER.debug("generating entrance ...");
 		// pit enterance
-		buildLogLayer(context, surfaceCoords.add(0, -3, 0), DEFAULT_LOG);
-		buildLayer(context, surfaceCoords.add(0, -4, 0), Blocks.SAND);
-		buildLogLayer(context, surfaceCoords.add(0, -5, 0), DEFAULT_LOG);
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
+		buildLogLayer(context, buffer, surfaceCoords.add(0, -3, 0), DEFAULT_LOG);
+		buildLayer(context, buffer, surfaceCoords.add(0, -4, 0), Blocks.SAND);
+		buildLogLayer(context, buffer, surfaceCoords.add(0, -5, 0), DEFAULT_LOG);
+		buffer.flush();
 		return true;
 	}
 	
@@ -202,13 +203,15 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 		Treasure.LOGGER.debug("generating pit ...");
 		ICoords nextCoords = null;
 		ICoords expectedCoords = null;
+		// the whole shaft is written in one pass when complete
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
 		
 		// randomly fill shaft
 		for (int yIndex = coords.getY() + getOffsetY(); yIndex <= surfaceCoords.getY() - SURFACE_OFFSET_Y; yIndex++) {
 			
 			// if the block to be replaced is air block then skip to the next pos
-			BlockContext cube = new BlockContext(context.level(), new Coords(coords.getX(), yIndex, coords.getZ()));
-			if (cube.isAir()) {
+			ICoords cubeCoords = new Coords(coords.getX(), yIndex, coords.getZ());
+			if (buffer.getBlockState(cubeCoords).isAir()) {
 				continue;
 			}
 			
@@ -216,17 +219,18 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 			Block block = col.next();
 			if (block == DEFAULT_LOG) {
 				// special log build layer
-				nextCoords = buildLogLayer(context, cube.getCoords(), block); // could have difference classes and implement buildLayer differently
+				nextCoords = buildLogLayer(context, buffer, cubeCoords, block); // could have difference classes and implement buildLayer differently
 				// ie. LayerBuilder.build(world, coords, block)
 			}
 			else {
-				nextCoords = buildLayer(context, cube.getCoords(), block);
+				nextCoords = buildLayer(context, buffer, cubeCoords, block);
 			}
-			expectedCoords = cube.getCoords().add(0, 1, 0);
+			expectedCoords = cubeCoords.add(0, 1, 0);
 			
 			// check if the return coords is different than the anticipated coords and resolve
 			yIndex = autoCorrectIndex(yIndex, nextCoords, expectedCoords);
-		}		
+		}
+		buffer.flush();
 		return nextCoords;
 	}
 	
@@ -260,11 +264,26 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 	 * @return
 	 */
 	public ICoords buildLayer(IWorldGenContext context, ICoords coords, Block block) {
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
+		ICoords nextCoords = buildLayer(context, buffer, coords, block);
+		buffer.flush();
+		return nextCoords;
+	}
+
+	/**
+	 * 
+	 * @param context
+	 * @param buffer
+	 * @param coords
+	 * @param block
+	 * @return
+	 */
+	public ICoords buildLayer(IWorldGenContext context, BlockWriteBuffer buffer, ICoords coords, Block block) {
 		Treasure.LOGGER.debug("Building layer from {} @ {} ", ModUtil.getName(block), coords.toShortString());
-		GeneratorUtil.replaceWithBlock(context.level(), coords, block);
-		GeneratorUtil.replaceWithBlock(context.level(), coords.add(1, 0, 0), block);
-		GeneratorUtil.replaceWithBlock(context.level(), coords.add(0, 0, 1), block);
-		GeneratorUtil.replaceWithBlock(context.level(), coords.add(1, 0, 1), block);
+		buffer.replaceWithBlock(coords, block);
+		buffer.replaceWithBlock(coords.add(1, 0, 0), block);
+		buffer.replaceWithBlock(coords.add(0, 0, 1), block);
+		buffer.replaceWithBlock(coords.add(1, 0, 1), block);
 		
 		return coords.add(0, 1, 0);
 	}
@@ -277,6 +296,21 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 	 * @return
 	 */
 	public ICoords buildLogLayer(IWorldGenContext context, final ICoords coords, final Block block) {
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
+		ICoords nextCoords = buildLogLayer(context, buffer, coords, block);
+		buffer.flush();
+		return nextCoords;
+	}
+
+	/**
+	 * 
+	 * @param context
+	 * @param buffer
+	 * @param coords
+	 * @param block
+	 * @return
+	 */
+	public ICoords buildLogLayer(IWorldGenContext context, BlockWriteBuffer buffer, final ICoords coords, final Block block) {
 		Treasure.LOGGER.debug("building log layer from {} @ {} ", ModUtil.getName(block), coords.toShortString());
 		// ensure that block is of type LOG/LOG2
 		if (!(block instanceof RotatedPillarBlock)) {
@@ -295,28 +329,27 @@ public abstract class AbstractPitGenerator implements IPitGenerator<GeneratorRes
 		}
 
 		// core 4-square
-		ServerLevelAccessor level = context.level();
-		GeneratorUtil.replaceWithBlockState(level, coords, blockState);
-		GeneratorUtil.replaceWithBlockState(level, coords.add(1, 0, 0), blockState);
-		GeneratorUtil.replaceWithBlockState(level, coords.add(0, 0, 1), blockState);
-		GeneratorUtil.replaceWithBlockState(level, coords.add(1, 0, 1), blockState);
+		buffer.replaceWithBlockState(coords, blockState);
+		buffer.replaceWithBlockState(coords.add(1, 0, 0), blockState);
+		buffer.replaceWithBlockState(coords.add(0, 0, 1), blockState);
+		buffer.replaceWithBlockState(coords.add(1, 0, 1), blockState);
 		
 		if (axis == 0) {			
 			// north of
-			GeneratorUtil.replaceWithBlockState(level, coords.add(0, 0, -1), blockState);
-			GeneratorUtil.replaceWithBlockState(level, coords.add(1, 0, -1), blockState);
+			buffer.replaceWithBlockState(coords.add(0, 0, -1), blockState);
+			buffer.replaceWithBlockState(coords.add(1, 0, -1), blockState);
 			
 			// south of
-			GeneratorUtil.replaceWithBlockState(level, coords.add(0, 0, 2), blockState);
-			GeneratorUtil.replaceWithBlockState(level, coords.add(1, 0, 2), blockState);
+			buffer.replaceWithBlockState(coords.add(0, 0, 2), blockState);
+			buffer.replaceWithBlockState(coords.add(1, 0, 2), blockState);
 		}
 		else {
 			// west of
-			GeneratorUtil.replaceWithBlockState(level, coords.add(-1, 0, 0), blockState);
-			GeneratorUtil.replaceWithBlockState(level, coords.add(-1, 0, 1), blockState);
+			buffer.replaceWithBlockState(coords.add(-1, 0, 0), blockState);
+			buffer.replaceWithBlockState(coords.add(-1, 0, 1), blockState);
 			// east of 
-			GeneratorUtil.replaceWithBlockState(level, coords.add(2, 0, 0), blockState);
-			GeneratorUtil.replaceWithBlockState(level, coords.add(2, 0, 1), blockState);
+			buffer.replaceWithBlockState(coords.add(2, 0, 0), blockState);
+			buffer.replaceWithBlockState(coords.add(2, 0, 1), blockState);
 		}
 		Treasure.LOGGER.debug("log level complete");
 		return coords.add(0, 1, 0);
@@ -20,7 +20,6 @@
 package mod.gottsch.forge.treasure2.core.generator.pit;
 
 import java.util.Optional;
-import java.util.Random;
 
 import mod.gottsch.neo.gottschcore.block.BlockContext;
 import mod.gottsch.neo.gottschcore.random.RandomHelper;
@@ -161,7 +160,6 @@ public class VolcanoPitGenerator extends AbstractPitGenerator {
 				}
 
 				if (isDistanceMet) {
-					Random random = new Random();
                     GeneratorUtil.replaceWithBlock(context.level(), spawnCoords, block);
                     
                     if (addDecorations) {
@@ -38,7 +38,6 @@ import mod.gottsch.forge.treasure2.core.registry.TreasureTemplateRegistry;
 import mod.gottsch.forge.treasure2.core.structure.IStructureCategory;
 import mod.gottsch.forge.treasure2.core.structure.IStructureType;
 import mod.gottsch.forge.treasure2.core.structure.TemplateHolder;
-import mod.gottsch.forge.treasure2.core.util.ModUtil;
 import net.minecraft.core.Holder;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.level.biome.Biome;
@@ -70,7 +69,7 @@ public interface IRuinGenerator<RESULT extends IGeneratorResult<?>> {
 		// get the biome ID
 		Holder<Biome> biome = context.level().getBiome(coords.toPos());
 		
-		List<TemplateHolder> holders = TreasureTemplateRegistry.getTemplate(category, type, ModUtil.getName(biome));
+		List<TemplateHolder> holders = TreasureTemplateRegistry.getTemplate(category, type, biome);
 		if (!holders.isEmpty()) {
 			holder = Optional.ofNullable(holders.get(context.random().nextInt(holders.size())));
 		}
@@ -23,7 +23,6 @@ import static mod.gottsch.forge.treasure2.core.capability.TreasureCapabilities.D
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -43,6 +42,7 @@ import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.item.effects.IKeyEffects;
 import mod.gottsch.forge.treasure2.core.lock.LockState;
+import mod.gottsch.forge.treasure2.core.random.TreasureRandom;
 import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
 import mod.gottsch.forge.treasure2.core.util.LangUtil;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
@@ -419,7 +419,7 @@ public class KeyItem extends Item implements IKeyEffects {
 	public boolean unlock(LockItem lockItem) {	
 		if (lockItem.acceptsKey(this) || fitsLock(lockItem)) {
 			Treasure.LOGGER.debug("lock -> {} accepts key -> {}", ModUtil.getName(lockItem), ModUtil.getName(this));
-			if (RandomHelper.checkProbability(new Random(), this.getSuccessProbability())) {
+			if (RandomHelper.checkProbability(TreasureRandom.get(), this.getSuccessProbability())) {
 				Treasure.LOGGER.debug("unlock attempt met probability");
 				return true;
 			}
@@ -18,12 +18,12 @@
 package mod.gottsch.forge.treasure2.core.item;
 
 import java.util.List;
-import java.util.Random;
 
 import mod.gottsch.neo.gottschcore.enums.IRarity;
 import mod.gottsch.neo.gottschcore.random.RandomHelper;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.enums.Rarity;
+import mod.gottsch.forge.treasure2.core.random.TreasureRandom;
 import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
 import mod.gottsch.forge.treasure2.core.util.LangUtil;
 import net.minecraft.ChatFormatting;
@@ -100,19 +100,19 @@ public class ThiefsLockPick extends KeyItem {
 		if (lockItem.acceptsKey(this) || fitsLock(lockItem)) {
 			Treasure.LOGGER.debug("Lock accepts key");
 			if (lockItem.getRarity() == Rarity.COMMON) {
-				if (RandomHelper.checkProbability(new Random(), this.getSuccessProbability())) {
+				if (RandomHelper.checkProbability(TreasureRandom.get(), this.getSuccessProbability())) {
 					Treasure.LOGGER.debug("Unlock attempt met probability");
 					return true;
 				}
 			}
 			else if (lockItem.getRarity() == Rarity.UNCOMMON) {
-				if (RandomHelper.checkProbability(new Random(), this.getSuccessProbability() - (this.getSuccessProbability()/4))) {
+				if (RandomHelper.checkProbability(TreasureRandom.get(), this.getSuccessProbability() - (this.getSuccessProbability()/4))) {
 					Treasure.LOGGER.debug("Unlock attempt met probability");
 					return true;
 				}				
 			}
 			else if (lockItem.getRarity() == Rarity.SCARCE) {
-				if (RandomHelper.checkProbability(new Random(), this.getSuccessProbability()/2)) {
+				if (RandomHelper.checkProbability(TreasureRandom.get(), this.getSuccessProbability()/2)) {
 					Treasure.LOGGER.debug("Unlock attempt met probability");
 					return true;
 				}				
@@ -0,0 +1,267 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.loot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import mod.gottsch.neo.gottschcore.enums.IRarity;
+import mod.gottsch.neo.gottschcore.loot.LootPoolShell;
+import mod.gottsch.neo.gottschcore.loot.LootTableShell;
+import mod.gottsch.forge.treasure2.api.TreasureApi;
+import mod.gottsch.forge.treasure2.core.enums.ILootTableType;
+import mod.gottsch.forge.treasure2.core.enums.LootTableType;
+import mod.gottsch.forge.treasure2.core.registry.TreasureLootTableRegistry;
+import net.minecraft.world.level.storage.loot.LootDataManager;
+import net.minecraft.world.level.storage.loot.LootPool;
+import net.minecraft.world.level.storage.loot.LootTable;
+
+/**
+ * The vanilla LootPools of the inject loot tables, pre-resolved per owner (ex. a chest generator) and rarity.
+ * Every owner registers once and holds on to its Bindings. All the registered bindings are resolved
+ * eagerly when the vanilla loot data is bound (server start, /reload) and whenever the Treasure2 loot table
+ * registry is republished, so a fill is an array read by rarity code.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class InjectLootBindings {
+	private static final LootPool[] NO_POOLS = new LootPool[0];
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+	private static final Binding EMPTY = new Binding(0, NO_POOLS, NO_POOLS);
+
+	/*
+	 * the registered bindings, by owner. the registry-wide bindings are keyed by their secondary type.
+	 */
+	private static final Map<Object, Bindings> OWNERS = new ConcurrentHashMap<>();
+
+	/*
+	 * the loot data that the registered bindings are resolved against. null when no server is running.
+	 */
+	private static volatile LootDataManager lootData;
+
+	private InjectLootBindings() {}
+
+	/**
+	 * Registers the inject tables of an owner. An owner is registered once - registering it again returns
+	 * the existing bindings. Hold on to the returned bindings rather than registering per use.
+	 * @param owner the builder of the table lists, typically the class of the generator
+	 * @param secondaryType the inject top-level to filter by ex. chests, or null if the lists are already filtered
+	 * @param tables builds the list of inject tables of a rarity. only called when resolving.
+	 * @return
+	 */
+	public static Bindings register(Object owner, ILootTableType secondaryType, Function<IRarity, List<LootTableShell>> tables) {
+		return OWNERS.computeIfAbsent(owner, o -> new Bindings(secondaryType, tables));
+	}
+
+	/**
+	 * The binding of the inject tables of the registry.
+	 * @param lootDataManager
+	 * @param rarity
+	 * @param secondaryType the inject top-level to filter by, or null for all
+	 * @return
+	 */
+	public static Binding get(LootDataManager lootDataManager, IRarity rarity, ILootTableType secondaryType) {
+		Object owner = secondaryType == null ? InjectLootBindings.class : secondaryType;
+		Bindings bindings = OWNERS.get(owner);
+		if (bindings == null) {
+			bindings = register(owner, secondaryType, InjectLootBindings::getRegistryTables);
+		}
+		return bindings.get(lootDataManager, rarity);
+	}
+
+	/**
+	 * Resolves all the registered bindings against the loot data, ie. when the server starts or reloads.
+	 * @param lootDataManager
+	 */
+	public static synchronized void bind(LootDataManager lootDataManager) {
+		lootData = lootDataManager;
+		for (Bindings bindings : OWNERS.values()) {
+			bindings.resolve(lootDataManager, true);
+		}
+	}
+
+	/**
+	 * Re-resolves all the registered bindings against the bound loot data, ie. when the loot table registry is republished.
+	 */
+	public static synchronized void rebind() {
+		if (lootData != null) {
+			bind(lootData);
+		}
+	}
+
+	/**
+	 * Releases all the bindings and the LootDataManager they were resolved against, ie. when the server stops.
+	 */
+	public static synchronized void invalidate() {
+		lootData = null;
+		for (Bindings bindings : OWNERS.values()) {
+			bindings.resolved = Resolved.NONE;
+		}
+	}
+
+	private static List<LootTableShell> getRegistryTables(IRarity rarity) {
+		return TreasureLootTableRegistry.getLootTableByRarity(LootTableType.INJECTS, rarity);
+	}
+
+	private static Binding resolve(LootDataManager lootDataManager, List<LootTableShell> shells, ILootTableType secondaryType) {
+		List<LootPool> treasurePools = new ArrayList<>();
+		List<LootPool> otherPools = new ArrayList<>();
+		int tableCount = 0;
+		for (LootTableShell shell : shells) {
+			// NOTE injects have 2 top-levels ex inject/chests, inject/wishables, so the list has to be filtered
+			if (secondaryType != null && !shell.getResourceLocation().getPath().contains(secondaryType.getValue())) {
+				continue;
+			}
+			tableCount++;
+			// get the vanilla managed loot table
+			LootTable lootTable = lootDataManager.getLootTable(shell.getResourceLocation());
+			if (lootTable == null) {
+				continue;
+			}
+			for (LootPoolShell poolShell : shell.getPools()) {
+				// get the vanilla managed loot pool
+				LootPool lootPool = lootTable.getPool(poolShell.getName());
+				if (lootPool == null) {
+					continue;
+				}
+				if (poolShell.getName().equalsIgnoreCase(TreasureLootGenerators.TREASURE_POOL)) {
+					treasurePools.add(lootPool);
+				}
+				else {
+					otherPools.add(lootPool);
+				}
+			}
+		}
+		if (tableCount == 0) {
+			return EMPTY;
+		}
+		return new Binding(tableCount, treasurePools.toArray(NO_POOLS), otherPools.toArray(NO_POOLS));
+	}
+
+	/**
+	 * The resolved bindings of a single owner, indexed by rarity code.
+	 */
+	public static final class Bindings {
+		private final ILootTableType secondaryType;
+		private final Function<IRarity, List<LootTableShell>> tables;
+		private volatile Resolved resolved = Resolved.NONE;
+
+		Bindings(ILootTableType secondaryType, Function<IRarity, List<LootTableShell>> tables) {
+			this.secondaryType = secondaryType;
+			this.tables = tables;
+		}
+
+		/**
+		 * 
+		 * @param lootDataManager the loot data of the running server
+		 * @param rarity
+		 * @return the binding of the rarity, or an empty binding
+		 */
+		public Binding get(LootDataManager lootDataManager, IRarity rarity) {
+			Resolved current = resolved;
+			if (current.lootData != lootDataManager) {
+				// not bound yet, ex. the owner was registered after the server started
+				current = resolve(lootDataManager, false);
+			}
+			int code = rarity.getCode();
+			return code >= 0 && code < current.byRarity.length ? current.byRarity[code] : EMPTY;
+		}
+
+		private Resolved resolve(LootDataManager lootDataManager, boolean force) {
+			synchronized (InjectLootBindings.class) {
+				Resolved current = resolved;
+				if (!force && current.lootData == lootDataManager) {
+					return current;
+				}
+				List<IRarity> rarities = TreasureApi.getRarities();
+				int size = 0;
+				for (IRarity rarity : rarities) {
+					size = Math.max(size, rarity.getCode() + 1);
+				}
+				Binding[] byRarity = new Binding[size];
+				Arrays.fill(byRarity, EMPTY);
+				for (IRarity rarity : rarities) {
+					if (rarity.getCode() >= 0) {
+						byRarity[rarity.getCode()] = InjectLootBindings.resolve(lootDataManager, tables.apply(rarity), secondaryType);
+					}
+				}
+				current = new Resolved(lootDataManager, byRarity);
+				resolved = current;
+				return current;
+			}
+		}
+	}
+
+	/**
+	 * The resolved pools of the inject tables of a single (owner, rarity).
+	 */
+	public static final class Binding {
+		private final int tableCount;
+		private final LootPool[] treasurePools;
+		private final LootPool[] otherPools;
+
+		Binding(int tableCount, LootPool[] treasurePools, LootPool[] otherPools) {
+			this.tableCount = tableCount;
+			this.treasurePools = treasurePools;
+			this.otherPools = otherPools;
+		}
+
+		public boolean isEmpty() {
+			return tableCount == 0;
+		}
+
+		public int getTableCount() {
+			return tableCount;
+		}
+
+		/**
+		 * @return the pools named "treasure". do not modify.
+		 */
+		public LootPool[] getTreasurePools() {
+			return treasurePools;
+		}
+
+		/**
+		 * @return all the other pools. do not modify.
+		 */
+		public LootPool[] getOtherPools() {
+			return otherPools;
+		}
+	}
+
+	/*
+	 * the bindings of a single LootDataManager. swapped as a whole so that a reload never
+	 * mixes the pools of two managers.
+	 */
+	private static final class Resolved {
+		static final Resolved NONE = new Resolved(null, NO_BINDINGS);
+
+		final LootDataManager lootData;
+		final Binding[] byRarity;
+
+		Resolved(LootDataManager lootData, Binding[] byRarity) {
+			this.lootData = lootData;
+			this.byRarity = byRarity;
+		}
+	}
+}
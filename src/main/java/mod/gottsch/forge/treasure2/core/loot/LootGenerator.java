@@ -32,7 +32,6 @@ import mod.gottsch.neo.gottschcore.random.RandomHelper;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.core.enums.ILootTableType;
-import mod.gottsch.forge.treasure2.core.enums.LootTableType;
 import mod.gottsch.forge.treasure2.core.item.KeyItem;
 import mod.gottsch.forge.treasure2.core.item.TreasureItems;
 import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
@@ -213,12 +212,13 @@ public abstract class LootGenerator implements ILootGenerator {
 	@Deprecated
 	// can't be called using the implemented generateLoot()
 	public void injectLoot(Level level, RandomSource random, List<ItemStack> itemStacks, ILootTableType type, IRarity rarity, LootContext lootContext) {
-		// get a list of "inject" loot tables
-		List<LootTableShell> injectLootTableShells = buildLootTableList(LootTableType.INJECTS, rarity, type);
+		// get the pre-resolved "inject" loot pools
+		InjectLootBindings.Binding binding = InjectLootBindings.get(level.getServer().getLootData(), rarity, type);
 
-		if (!injectLootTableShells.isEmpty()) {
-			Treasure.LOGGER.debug("size of injectable tables -> {}", injectLootTableShells.size());
-			itemStacks.addAll(getInjectedLootItems(level, random, injectLootTableShells, lootContext, p -> true));
+		if (!binding.isEmpty()) {
+			Treasure.LOGGER.debug("size of injectable tables -> {}", binding.getTableCount());
+			addRandomItems(binding.getTreasurePools(), itemStacks, lootContext);
+			addRandomItems(binding.getOtherPools(), itemStacks, lootContext);
 		}
 	}
 	
@@ -234,18 +234,24 @@ public abstract class LootGenerator implements ILootGenerator {
 	public void injectLoot(Level level, RandomSource random, Pair<List<ItemStack>, List<ItemStack>> lootStacks,
 			ILootTableType type, IRarity rarity, LootContext lootContext) {
 		
-		// get a list of "inject" loot tables
-		List<LootTableShell> injectLootTableShells = buildLootTableList(LootTableType.INJECTS, rarity, type);
+		// get the pre-resolved "inject" loot pools, already separated into treasure and other pools
+		InjectLootBindings.Binding binding = InjectLootBindings.get(level.getServer().getLootData(), rarity, type);
 
-		// TODO this is only removing Treasure Pools instead of separating the pools
-		if (!injectLootTableShells.isEmpty()) {
-			// add predicate
-			lootStacks.getLeft().addAll(getInjectedLootItems(level, random, injectLootTableShells, lootContext, p -> {
-				return p.getName().equalsIgnoreCase(TreasureLootGenerators.TREASURE_POOL);
-			}));
-			lootStacks.getRight().addAll(getInjectedLootItems(level, random, injectLootTableShells, lootContext, p -> {
-				return !p.getName().equalsIgnoreCase(TreasureLootGenerators.TREASURE_POOL) ;
-			}));
+		if (!binding.isEmpty()) {
+			addRandomItems(binding.getTreasurePools(), lootStacks.getLeft(), lootContext);
+			addRandomItems(binding.getOtherPools(), lootStacks.getRight(), lootContext);
+		}
+	}
+
+	/**
+	 * 
+	 * @param lootPools
+	 * @param itemStacks
+	 * @param lootContext
+	 */
+	protected void addRandomItems(LootPool[] lootPools, List<ItemStack> itemStacks, LootContext lootContext) {
+		for (LootPool lootPool : lootPools) {
+			lootPool.addRandomItems(itemStacks::add, lootContext);
 		}
 	}
 	
@@ -0,0 +1,179 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import mod.gottsch.forge.treasure2.Treasure;
+import mod.gottsch.forge.treasure2.core.config.Config;
+import mod.gottsch.forge.treasure2.core.world.feature.IFeatureType;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+
+/**
+ * Per-feature, per-phase timing histograms and rejection counters for the feature placement pipeline.
+ * Usage within a Feature.place():
+ * <pre>
+ * PhaseTimer timer = FeatureMetrics.start(FEATURE_TYPE);
+ * if (!meetsDimensionCriteria(dimension)) {
+ * 	return timer.reject(FeaturePhase.DIMENSION);
+ * }
+ * timer.mark(FeaturePhase.DIMENSION);
+ * </pre>
+ * When metrics are disabled a no-op timer is returned and nothing is recorded.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class FeatureMetrics {
+	private static final Map<IFeatureType, Map<FeaturePhase, PhaseHistogram>> METRICS = new ConcurrentHashMap<>();
+	private static final String DUMP_FILE_NAME = "feature_metrics.txt";
+	private static volatile Instant since = Instant.now();
+
+	private FeatureMetrics() {}
+
+	/**
+	 * 
+	 * @param featureType
+	 * @return a timer for a single placement attempt
+	 */
+	public static PhaseTimer start(IFeatureType featureType) {
+		if (!isEnabled()) {
+			return PhaseTimer.NOOP;
+		}
+		return new PhaseTimer(getHistograms(featureType));
+	}
+
+	public static boolean isEnabled() {
+		return Config.SERVER.metrics.enableFeatureMetrics.get();
+	}
+
+	public static void reset() {
+		METRICS.values().forEach(histograms -> histograms.values().forEach(PhaseHistogram::reset));
+		since = Instant.now();
+	}
+
+	/**
+	 * 
+	 * @return a human readable report, one line per recorded feature phase
+	 */
+	public static List<String> report() {
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format("Treasure2 feature metrics since %s", since));
+		lines.add(String.format("%-10s %-12s %10s %10s %12s %10s %10s %10s",
+				"feature", "phase", "count", "rejected", "total(ms)", "mean(us)", "p50(us)", "p99(us)"));
+		METRICS.forEach((featureType, histograms) -> {
+			histograms.forEach((phase, histogram) -> {
+				long count = histogram.getCount();
+				if (count == 0) {
+					return;
+				}
+				lines.add(String.format("%-10s %-12s %10d %10d %12.2f %10.1f %10.1f %10.1f",
+						featureType.getValue(), phase.getValue(), count, histogram.getRejections(),
+						histogram.getTotalNanos() / 1_000_000D,
+						histogram.getTotalNanos() / (double)count / 1_000D,
+						histogram.getPercentile(50) / 1_000D,
+						histogram.getPercentile(99) / 1_000D));
+			});
+		});
+		return lines;
+	}
+
+	/**
+	 * 
+	 * @param server
+	 * @return the location of the metrics dump file
+	 */
+	public static Path getDumpPath(MinecraftServer server) {
+		return server.getWorldPath(LevelResource.ROOT).resolve("data").resolve(Treasure.MODID).resolve(DUMP_FILE_NAME);
+	}
+
+	/**
+	 * 
+	 * @param path
+	 */
+	public static void dump(Path path) {
+		try {
+			Files.createDirectories(path.getParent());
+			Files.write(path, report(), StandardCharsets.UTF_8);
+		}
+		catch(IOException e) {
+			Treasure.LOGGER.error("unable to write feature metrics to -> {}", path, e);
+		}
+	}
+
+	private static Map<FeaturePhase, PhaseHistogram> getHistograms(IFeatureType featureType) {
+		return METRICS.computeIfAbsent(featureType, key -> {
+			Map<FeaturePhase, PhaseHistogram> histograms = new EnumMap<>(FeaturePhase.class);
+			for (FeaturePhase phase : FeaturePhase.values()) {
+				histograms.put(phase, new PhaseHistogram());
+			}
+			return histograms;
+		});
+	}
+
+	/**
+	 * Times consecutive phases of one placement attempt. Not thread-safe; use one per attempt.
+	 */
+	public static class PhaseTimer {
+		static final PhaseTimer NOOP = new PhaseTimer(null);
+
+		private final Map<FeaturePhase, PhaseHistogram> histograms;
+		private long last;
+
+		PhaseTimer(Map<FeaturePhase, PhaseHistogram> histograms) {
+			this.histograms = histograms;
+			this.last = histograms == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * Records the time since the previous mark against the phase.
+		 * @param phase
+		 */
+		public void mark(FeaturePhase phase) {
+			if (histograms != null) {
+				long now = System.nanoTime();
+				histograms.get(phase).record(now - last);
+				last = now;
+			}
+		}
+
+		/**
+		 * Records the time since the previous mark against the phase, as a rejection.
+		 * @param phase
+		 * @return false, for convenience when returning from Feature.place()
+		 */
+		public boolean reject(FeaturePhase phase) {
+			if (histograms != null) {
+				long now = System.nanoTime();
+				histograms.get(phase).reject(now - last);
+				last = now;
+			}
+			return false;
+		}
+	}
+}
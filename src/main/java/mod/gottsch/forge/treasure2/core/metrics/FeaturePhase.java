@@ -0,0 +1,47 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.metrics;
+
+/**
+ * The phases of the feature placement pipeline, in the order they are executed.
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public enum FeaturePhase {
+	DIMENSION("dimension"),
+	CONFIG("config"),
+	WORLD_AGE("world_age"),
+	SURFACE("surface"),
+	RARITY("rarity"),
+	BIOME("biome"),
+	PROXIMITY("proximity"),
+	PROBABILITY("probability"),
+	SELECTION("selection"),
+	GENERATION("generation"),
+	REGISTRATION("registration");
+
+	private final String value;
+
+	FeaturePhase(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, fixed size, log-linear histogram of durations in nanoseconds.
+ * Each power of two is split into 8 sub-buckets, so percentiles are accurate to ~12.5%.
+ * Safe to record from the worldgen worker threads concurrently.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class PhaseHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// values below this are recorded exactly
+	private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+	private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * 
+	 * @param nanos
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		buckets.incrementAndGet(indexOf(nanos));
+		count.increment();
+		totalNanos.add(nanos);
+	}
+
+	/**
+	 * Records the duration of the phase and that the phase rejected the placement.
+	 * @param nanos
+	 */
+	public void reject(long nanos) {
+		record(nanos);
+		rejections.increment();
+	}
+
+	/**
+	 * 
+	 * @param percentile 0 - 100
+	 * @return the approximate duration in nanos at the percentile, or 0 if nothing has been recorded
+	 */
+	public long getPercentile(double percentile) {
+		long total = 0;
+		long[] snapshot = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long)Math.ceil(total * percentile / 100D));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(BUCKET_COUNT - 1);
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets.set(i, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+		rejections.reset();
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getRejections() {
+		return rejections.sum();
+	}
+
+	static int indexOf(long value) {
+		if (value < LINEAR_LIMIT) {
+			return (int)value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return LINEAR_LIMIT + (exponent - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < LINEAR_LIMIT) {
+			return index;
+		}
+		int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+		long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+		long lower = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+		return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.network;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import mod.gottsch.forge.treasure2.core.config.Config;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+
+/**
+ * Bounds the poison/wither mist effect messages.
+ * The client coalesces collisions into at most one message per effect per interval,
+ * and the server drops any messages from a player that arrive faster than that.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class MistEffectThrottle {
+	public enum MistEffect {
+		POISON,
+		WITHER
+	}
+
+	// client side - last game time a message was sent, per effect
+	private static final long[] LAST_SENT = new long[MistEffect.values().length];
+
+	// server side - last server tick a message was accepted, per player, per effect
+	private static final Map<ServerPlayer, int[]> LAST_ACCEPTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+	static {
+		resetClient();
+	}
+
+	private MistEffectThrottle() {}
+
+	/**
+	 * Client side. Call from the client thread only.
+	 * @param level
+	 * @param effect
+	 * @return whether a message for the effect may be sent now
+	 */
+	public static boolean trySend(Level level, MistEffect effect) {
+		long now = level.getGameTime();
+		long last = LAST_SENT[effect.ordinal()];
+		// time can go backwards when switching worlds
+		if (now >= last && now - last < getInterval()) {
+			return false;
+		}
+		LAST_SENT[effect.ordinal()] = now;
+		return true;
+	}
+
+	public static void resetClient() {
+		for (int i = 0; i < LAST_SENT.length; i++) {
+			LAST_SENT[i] = Long.MIN_VALUE / 2;
+		}
+	}
+
+	/**
+	 * Server side. Safe to call from the network thread.
+	 * @param player
+	 * @param effect
+	 * @return whether the message is within the player's rate
+	 */
+	public static boolean tryAccept(ServerPlayer player, MistEffect effect) {
+		int now = player.server.getTickCount();
+		synchronized (LAST_ACCEPTED) {
+			int[] accepted = LAST_ACCEPTED.get(player);
+			if (accepted == null) {
+				accepted = new int[MistEffect.values().length];
+				Arrays.fill(accepted, Integer.MIN_VALUE / 2);
+				LAST_ACCEPTED.put(player, accepted);
+			}
+			int last = accepted[effect.ordinal()];
+			// allow a tick of slack for the client and server clocks not lining up
+			if (now >= last && now - last < getInterval() - 1) {
+				return false;
+			}
+			accepted[effect.ordinal()] = now;
+			return true;
+		}
+	}
+
+	private static int getInterval() {
+		return Config.SERVER.effects.mistEffectInterval.get();
+	}
+}
@@ -30,7 +30,7 @@ import net.minecraftforge.network.simple.SimpleChannel;
  *
  */
 public class TreasureNetworking {
-	public static final String PROTOCOL_VERSION = "1.0";
+	public static final String PROTOCOL_VERSION = "1.1";
 	public static final int POISON_MIST_TO_SERVER_ID = 14;
 	public static final int WITHER_MIST_TO_SERVER_ID = 15;
 //	public static final int CHARM_MESSAGE_ID = 16;
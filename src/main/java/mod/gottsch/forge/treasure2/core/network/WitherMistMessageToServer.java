@@ -24,7 +24,6 @@ import java.util.function.Supplier;
 
 import mod.gottsch.forge.treasure2.Treasure;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -37,7 +36,7 @@ import net.minecraftforge.network.NetworkEvent;
  *
  */
 public class WitherMistMessageToServer {
-	private String playerUUID;
+	private UUID playerUUID;
 	private boolean valid;
 	
 	/**
@@ -51,7 +50,7 @@ public class WitherMistMessageToServer {
 	 * 
 	 * @param playerUUID
 	 */
-	public WitherMistMessageToServer(String playerUUID) {
+	public WitherMistMessageToServer(UUID playerUUID) {
 		setPlayerUUID(playerUUID);
 		valid = true;
 	}
@@ -64,7 +63,7 @@ public class WitherMistMessageToServer {
 	public static WitherMistMessageToServer decode(FriendlyByteBuf buf) {
 		WitherMistMessageToServer message = new WitherMistMessageToServer();
 		try {
-			message.setPlayerUUID(buf.readUtf());
+			message.setPlayerUUID(buf.readUUID());
 		}
 		catch(Exception e) {
 			Treasure.LOGGER.error("an error occurred attempting to read message: ", e);
@@ -82,7 +81,7 @@ public class WitherMistMessageToServer {
 		if (!isValid()) {
 			return;
 		}
-		buf.writeUtf(getPlayerUUID());
+		buf.writeUUID(getPlayerUUID());
 	}
 	
 	/**
@@ -104,7 +103,15 @@ public class WitherMistMessageToServer {
 		}
 		final ServerPlayer sendingPlayer = ctx.getSender();
 		if (sendingPlayer == null) {
-			Treasure.LOGGER.warn("PlayerEntityMP was null when PoisonMistMessageToServer was received");
+			Treasure.LOGGER.warn("PlayerEntityMP was null when WitherMistMessageToServer was received");
+			ctx.setPacketHandled(true);
+			return;
+		}
+
+		// drop messages over the per-player rate before they are queued onto the server thread
+		if (!MistEffectThrottle.tryAccept(sendingPlayer, MistEffectThrottle.MistEffect.WITHER)) {
+			ctx.setPacketHandled(true);
+			return;
 		}
 
 		// This code creates a new task which will be executed by the server during the next tick,
@@ -122,8 +129,8 @@ public class WitherMistMessageToServer {
 	static void processMessage(WitherMistMessageToServer message, ServerPlayer sendingPlayer) {
 
 		try {
-			MinecraftServer minecraftServer = sendingPlayer.server;
-			ServerPlayer player = minecraftServer.getPlayerList().getPlayer(UUID.fromString(message.getPlayerUUID()));
+			// a client may only apply the effect to itself
+			ServerPlayer player = sendingPlayer.getUUID().equals(message.getPlayerUUID()) ? sendingPlayer : null;
 
 			if (player != null) {
 				boolean isAffected = false;
@@ -144,10 +151,10 @@ public class WitherMistMessageToServer {
 		}
 	}
 	
-	public String getPlayerUUID() {
+	public UUID getPlayerUUID() {
 		return playerUUID;
 	}
-	public void setPlayerUUID(String playerUUID) {
+	public void setPlayerUUID(UUID playerUUID) {
 		this.playerUUID = playerUUID;
 	}
 	public boolean isValid() {
@@ -19,13 +19,13 @@
  */
 package mod.gottsch.forge.treasure2.core.particle;
 
+import java.util.List;
+
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.core.block.entity.MistEmitterBlockEntity;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.phys.AABB;
 
 /**
  * 
@@ -34,6 +34,8 @@ import net.minecraft.world.phys.AABB;
  */
 public abstract class AbstractCollidingMistParticle extends AbstractMistParticle implements ICollidingParticle {
 	private ICoords sourceCoords;
+	private MistEmitterBlockEntity emitter;
+	private boolean emitterResolved;
 	
 	/**
 	 * 
@@ -60,27 +62,50 @@ public abstract class AbstractCollidingMistParticle extends AbstractMistParticle
 	 */
 	@Override
 	public void doPlayerCollisions(Level world) {
-
-		if (getSourceCoords() == null) {
+		MistEmitterBlockEntity emitter = getEmitter(world);
+		if (emitter == null || !emitter.isActive()) {
 			return;
 		}
 
-		// get the emitter tile entity
-		BlockEntity emitterTileEntity = world.getBlockEntity(getSourceCoords().toPos());
-		if (emitterTileEntity == null || !(emitterTileEntity instanceof MistEmitterBlockEntity)) {
+		// the players near the particle, from the shared per-tick snapshot
+		List<PlayerCollisionSnapshot.Entry> entries = PlayerCollisionSnapshot.get(world, x, y, z);
+		if (entries.isEmpty()) {
 			return;
 		}
 
-		// create an AxisAlignedBB for the particle
-		AABB aabb = new AABB(x - 0.125D, y, z - 0.125D, x + 0.125D, y + 0.25D,
-				z + 0.125D);
+		// the particle's bounding box
+		double minX = x - 0.125D;
+		double minZ = z - 0.125D;
+		double maxX = x + 0.125D;
+		double maxY = y + 0.25D;
+		double maxZ = z + 0.125D;
+
+		for (int i = 0; i < entries.size(); i++) {
+			PlayerCollisionSnapshot.Entry entry = entries.get(i);
+			if (entry.getBox().intersects(minX, y, minZ, maxX, maxY, maxZ)
+					&& emitter.isWithinProximity(entry.getPlayer())) {
+				inflictEffectOnPlayer(entry.getPlayer());
+			}
+		}
+	}
 
-		// for all the players in the mist emitter tile entity list
-		for (Player player : ((MistEmitterBlockEntity) emitterTileEntity).getPlayersWithinProximity()) {
-			if (player.getBoundingBox().intersects(aabb)) {
-				inflictEffectOnPlayer(player);
+	/**
+	 * Resolves the emitter block entity once and keeps the handle for the life of the particle.
+	 * @param world
+	 * @return the emitter or null if it does not exist or has been removed
+	 */
+	protected MistEmitterBlockEntity getEmitter(Level world) {
+		if (!emitterResolved) {
+			emitterResolved = true;
+			if (getSourceCoords() != null
+					&& world.getBlockEntity(getSourceCoords().toPos()) instanceof MistEmitterBlockEntity blockEntity) {
+				emitter = blockEntity;
 			}
 		}
+		if (emitter != null && emitter.isRemoved()) {
+			emitter = null;
+		}
+		return emitter;
 	}
 
 	/**
@@ -97,5 +122,7 @@ public abstract class AbstractCollidingMistParticle extends AbstractMistParticle
 	@Override
 	public void setSourceCoords(ICoords parentEmitterCoords) {
 		this.sourceCoords = parentEmitterCoords;
+		this.emitter = null;
+		this.emitterResolved = false;
 	}
 }
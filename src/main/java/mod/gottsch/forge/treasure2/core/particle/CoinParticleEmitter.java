@@ -0,0 +1,171 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.particle;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import mod.gottsch.forge.treasure2.core.block.AbstractTreasureChestBlock;
+import mod.gottsch.forge.treasure2.core.config.Config;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Client-side registry of undiscovered chests that emit coin particles.
+ * Chests register/unregister themselves as they are loaded, removed or discovered, and
+ * a single client tick drives all the emitters, culled by distance from the camera and capped
+ * by a per-emission budget, instead of every chest block entity ticking its own particles.
+ * Only accessed from the client thread.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class CoinParticleEmitter {
+	public static final int EMIT_INTERVAL = 10;
+	public static final int PARTICLES_PER_EMIT = 5;
+	private static final double MAX_DISTANCE = 48D;
+	private static final double MAX_DISTANCE_SQ = MAX_DISTANCE * MAX_DISTANCE;
+	private static final int MAX_EMITTERS_PER_INTERVAL = 32;
+
+	private static final LongOpenHashSet EMITTERS = new LongOpenHashSet();
+	// reusable scratch list of the in-range emitters
+	private static final LongArrayList CANDIDATES = new LongArrayList();
+
+	private CoinParticleEmitter() {}
+
+	/**
+	 * 
+	 * @param pos
+	 */
+	public static void register(BlockPos pos) {
+		EMITTERS.add(pos.asLong());
+	}
+
+	/**
+	 * 
+	 * @param pos
+	 */
+	public static void unregister(BlockPos pos) {
+		EMITTERS.remove(pos.asLong());
+	}
+
+	/**
+	 * 
+	 * @param pos
+	 * @param emitting
+	 */
+	public static void update(BlockPos pos, boolean emitting) {
+		if (emitting) {
+			register(pos);
+		}
+		else {
+			unregister(pos);
+		}
+	}
+
+	public static void clear() {
+		EMITTERS.clear();
+		CANDIDATES.clear();
+	}
+
+	public static int size() {
+		return EMITTERS.size();
+	}
+
+	/**
+	 * Emits particles for the registered chests within range of the camera, every EMIT_INTERVAL ticks.
+	 * @param level
+	 * @param camera
+	 */
+	public static void tick(Level level, Vec3 camera) {
+		if (EMITTERS.isEmpty() || level.getGameTime() % EMIT_INTERVAL != 0
+				|| !Config.SERVER.effects.enableUndiscoveredEffects.get()) {
+			return;
+		}
+
+		CANDIDATES.clear();
+		LongIterator iterator = EMITTERS.iterator();
+		while (iterator.hasNext()) {
+			long key = iterator.nextLong();
+			double dx = BlockPos.getX(key) + 0.5D - camera.x;
+			double dy = BlockPos.getY(key) + 0.5D - camera.y;
+			double dz = BlockPos.getZ(key) + 0.5D - camera.z;
+			if (dx * dx + dy * dy + dz * dz <= MAX_DISTANCE_SQ) {
+				CANDIDATES.add(key);
+			}
+		}
+
+		RandomSource random = level.getRandom();
+		int count = CANDIDATES.size();
+		int budget = Math.min(count, MAX_EMITTERS_PER_INTERVAL);
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		for (int i = 0; i < budget; i++) {
+			// over budget, pick a random subset (partial shuffle) so no chest is starved
+			if (count > MAX_EMITTERS_PER_INTERVAL) {
+				int j = i + random.nextInt(count - i);
+				long swap = CANDIDATES.getLong(j);
+				CANDIDATES.set(j, CANDIDATES.getLong(i));
+				CANDIDATES.set(i, swap);
+			}
+			pos.set(CANDIDATES.getLong(i));
+			if (isUndiscoveredChest(level.getBlockState(pos))) {
+				emit(level, pos, random);
+			}
+		}
+		CANDIDATES.clear();
+	}
+
+	/**
+	 * 
+	 * @param state
+	 * @return
+	 */
+	public static boolean isUndiscoveredChest(BlockState state) {
+		return state.hasProperty(AbstractTreasureChestBlock.DISCOVERED) 
+				&& !state.getValue(AbstractTreasureChestBlock.DISCOVERED);
+	}
+
+	/**
+	 * Spawns a single burst of coin particles above the chest.
+	 * @param level
+	 * @param pos
+	 * @param random
+	 */
+	public static void emit(Level level, BlockPos pos, RandomSource random) {
+		for(int k = 0; k < PARTICLES_PER_EMIT; ++k) {
+			SimpleParticleType coinParticle;
+			int x = k % 3;
+			if (x == 0) {
+				coinParticle = TreasureParticles.COPPER_COIN_PARTICLE.get();
+			} else if (x == 1) {
+				coinParticle = TreasureParticles.SILVER_COIN_PARTICLE.get();
+			} else {
+				coinParticle = TreasureParticles.GOLD_COIN_PARTICLE.get();
+			}
+			level.addParticle(coinParticle, 
+					(double)pos.getX() + 0.5D + random.nextDouble() / 3.0D * (double)(random.nextBoolean() ? 1 : -1), 
+					(double)pos.getY() + random.nextDouble() + random.nextDouble(),
+					(double)pos.getZ() + 0.5D + random.nextDouble() / 3.0D * (double)(random.nextBoolean() ? 1 : -1),
+					0.0D, 0.07D, 0.0D);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.particle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Client-side snapshot of the players' bounding boxes, indexed by chunk section.
+ * It is rebuilt at most once per game tick, on first use, and shared by all the colliding
+ * particles ticking in that tick, so a particle only tests the players in its own section.
+ * Only accessed from the client thread.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class PlayerCollisionSnapshot {
+	/*
+	 * player boxes are indexed inflated by the largest particle extent
+	 * so that looking up the particle's own section is sufficient.
+	 */
+	private static final double PARTICLE_MARGIN = 0.25D;
+
+	private static final Long2ObjectOpenHashMap<List<Entry>> SECTIONS = new Long2ObjectOpenHashMap<>();
+	private static Level level;
+	private static long gameTime = Long.MIN_VALUE;
+
+	private PlayerCollisionSnapshot() {}
+
+	/**
+	 * 
+	 * @param level
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @return the player entries whose bounding boxes are near the section containing the position
+	 */
+	public static List<Entry> get(Level level, double x, double y, double z) {
+		refresh(level);
+		List<Entry> entries = SECTIONS.get(SectionPos.asLong(
+				SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z)));
+		return entries == null ? Collections.emptyList() : entries;
+	}
+
+	public static void clear() {
+		SECTIONS.clear();
+		level = null;
+		gameTime = Long.MIN_VALUE;
+	}
+
+	private static void refresh(Level currentLevel) {
+		if (currentLevel == level && currentLevel.getGameTime() == gameTime) {
+			return;
+		}
+		SECTIONS.clear();
+		level = currentLevel;
+		gameTime = currentLevel.getGameTime();
+
+		for (Player player : currentLevel.players()) {
+			Entry entry = new Entry(player, player.getBoundingBox());
+			AABB box = entry.box.inflate(PARTICLE_MARGIN);
+			int minX = SectionPos.blockToSectionCoord(Mth.floor(box.minX));
+			int minY = SectionPos.blockToSectionCoord(Mth.floor(box.minY));
+			int minZ = SectionPos.blockToSectionCoord(Mth.floor(box.minZ));
+			int maxX = SectionPos.blockToSectionCoord(Mth.floor(box.maxX));
+			int maxY = SectionPos.blockToSectionCoord(Mth.floor(box.maxY));
+			int maxZ = SectionPos.blockToSectionCoord(Mth.floor(box.maxZ));
+			for (int sx = minX; sx <= maxX; sx++) {
+				for (int sy = minY; sy <= maxY; sy++) {
+					for (int sz = minZ; sz <= maxZ; sz++) {
+						long key = SectionPos.asLong(sx, sy, sz);
+						List<Entry> entries = SECTIONS.get(key);
+						if (entries == null) {
+							entries = new ArrayList<>(2);
+							SECTIONS.put(key, entries);
+						}
+						entries.add(entry);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * A player and its bounding box as of the snapshot.
+	 */
+	public static final class Entry {
+		private final Player player;
+		private final AABB box;
+
+		Entry(Player player, AABB box) {
+			this.player = player;
+			this.box = box;
+		}
+
+		public Player getPlayer() {
+			return player;
+		}
+
+		public AABB getBox() {
+			return box;
+		}
+	}
+}
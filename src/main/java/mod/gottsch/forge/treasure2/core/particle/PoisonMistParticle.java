@@ -21,6 +21,7 @@ package mod.gottsch.forge.treasure2.core.particle;
 
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
+import mod.gottsch.forge.treasure2.core.network.MistEffectThrottle;
 import mod.gottsch.forge.treasure2.core.network.PoisonMistMessageToServer;
 import mod.gottsch.forge.treasure2.core.network.TreasureNetworking;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -66,7 +67,8 @@ public class PoisonMistParticle extends AbstractCollidingMistParticle {
 	 */
 	@Override
 	public void inflictEffectOnPlayer(Player player) {
-		if (WorldInfo.isServerSide(player.level())) {
+		// only the local player reports its own collisions
+		if (WorldInfo.isServerSide(player.level()) || !player.isLocalPlayer()) {
 			return;
 		}
 
@@ -78,11 +80,10 @@ public class PoisonMistParticle extends AbstractCollidingMistParticle {
 			}
 		}
 
-		// if player does not have poison effect, add it
-		if (!isAffected) {
-			PoisonMistMessageToServer messageToServer = new PoisonMistMessageToServer(player.getStringUUID());
+		// if player does not have the effect, request it (coalesced to one message per interval)
+		if (!isAffected && MistEffectThrottle.trySend(player.level(), MistEffectThrottle.MistEffect.POISON)) {
+			PoisonMistMessageToServer messageToServer = new PoisonMistMessageToServer(player.getUUID());
 			TreasureNetworking.channel.sendToServer(messageToServer);
-
 		}
 	}
 	
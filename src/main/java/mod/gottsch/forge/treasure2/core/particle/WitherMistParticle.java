@@ -22,6 +22,7 @@ package mod.gottsch.forge.treasure2.core.particle;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.core.network.TreasureNetworking;
+import mod.gottsch.forge.treasure2.core.network.MistEffectThrottle;
 import mod.gottsch.forge.treasure2.core.network.WitherMistMessageToServer;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
@@ -66,7 +67,8 @@ public class WitherMistParticle extends AbstractCollidingMistParticle {
 	 */
 	@Override
 	public void inflictEffectOnPlayer(Player player) {
-		if (WorldInfo.isServerSide(player.level())) {
+		// only the local player reports its own collisions
+		if (WorldInfo.isServerSide(player.level()) || !player.isLocalPlayer()) {
 			return;
 		}
 
@@ -78,11 +80,10 @@ public class WitherMistParticle extends AbstractCollidingMistParticle {
 			}
 		}
 
-		// if player does not have poison effect, add it
-		if (!isAffected) {
-			WitherMistMessageToServer messageToServer = new WitherMistMessageToServer(player.getStringUUID());
+		// if player does not have the effect, request it (coalesced to one message per interval)
+		if (!isAffected && MistEffectThrottle.trySend(player.level(), MistEffectThrottle.MistEffect.WITHER)) {
+			WitherMistMessageToServer messageToServer = new WitherMistMessageToServer(player.getUUID());
 			TreasureNetworking.channel.sendToServer(messageToServer);
-
 		}
 	}
 	
@@ -0,0 +1,142 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.persistence;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import mod.gottsch.forge.treasure2.Treasure;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Stores region shards of a cache as individual compressed NBT files, laid out as
+ * [root]/[dimension namespace]/[dimension path]/[cache name]/r.[x].[z].dat
+ * so that only the regions that changed need to be rewritten on save.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class RegionShardStorage {
+	private static final String SHARD_PREFIX = "r.";
+	private static final String SHARD_EXTENSION = ".dat";
+	private static final String TEMP_EXTENSION = ".tmp";
+
+	private final Path root;
+
+	/**
+	 *
+	 * @param root
+	 */
+	public RegionShardStorage(Path root) {
+		this.root = root;
+	}
+
+	/**
+	 *
+	 * @param dimension
+	 * @param cacheName
+	 * @return
+	 */
+	public Path getFolder(ResourceLocation dimension, String cacheName) {
+		return root.resolve(dimension.getNamespace()).resolve(dimension.getPath()).resolve(cacheName.toLowerCase());
+	}
+
+	/**
+	 *
+	 * @return whether any shards have been written
+	 */
+	public boolean exists() {
+		return Files.isDirectory(root);
+	}
+
+	/**
+	 * Writes a shard via a temp file so a crash mid-save can't truncate the existing shard.
+	 * @param folder
+	 * @param regionKey
+	 * @param tag
+	 * @throws IOException
+	 */
+	public void write(Path folder, long regionKey, CompoundTag tag) throws IOException {
+		Files.createDirectories(folder);
+		Path shard = getShardPath(folder, regionKey);
+		Path temp = shard.resolveSibling(shard.getFileName().toString() + TEMP_EXTENSION);
+		NbtIo.writeCompressed(tag, temp.toFile());
+		try {
+			Files.move(temp, shard, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(AtomicMoveNotSupportedException e) {
+			Files.move(temp, shard, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 *
+	 * @param folder
+	 * @param regionKey
+	 * @throws IOException
+	 */
+	public void delete(Path folder, long regionKey) throws IOException {
+		Files.deleteIfExists(getShardPath(folder, regionKey));
+	}
+
+	/**
+	 *
+	 * @param folder
+	 * @return all the shards in the folder
+	 */
+	public List<CompoundTag> readAll(Path folder) {
+		List<CompoundTag> shards = new ArrayList<>();
+		if (!Files.isDirectory(folder)) {
+			return shards;
+		}
+		try (Stream<Path> paths = Files.list(folder)) {
+			paths.filter(path -> {
+				String name = path.getFileName().toString();
+				return name.startsWith(SHARD_PREFIX) && name.endsWith(SHARD_EXTENSION);
+			}).forEach(path -> {
+				try {
+					shards.add(NbtIo.readCompressed(path.toFile()));
+				}
+				catch(IOException e) {
+					Treasure.LOGGER.error("unable to read shard -> {}", path, e);
+				}
+			});
+		}
+		catch(IOException e) {
+			Treasure.LOGGER.error("unable to list shards in -> {}", folder, e);
+		}
+		return shards;
+	}
+
+	private Path getShardPath(Path folder, long regionKey) {
+		return folder.resolve(SHARD_PREFIX + ChunkPos.getX(regionKey) + "." + ChunkPos.getZ(regionKey) + SHARD_EXTENSION);
+	}
+
+	public Path getRoot() {
+		return root;
+	}
+}
@@ -76,12 +76,15 @@ public class TreasureSavedData extends SavedData {
 		}
 		
         /*
-         * chest registry
+         * chest registry.
+         * the chest registry is persisted as region shards (see DimensionalGeneratedCache.saveShards()).
+         * a legacy compound is only loaded if the shards weren't, and is then migrated to shards on the next save.
          */
-		if (tag.contains(DIM_GEN_REGISTRY_NAME)) {
+		if (tag.contains(DIM_GEN_REGISTRY_NAME) && !DimensionalGeneratedCache.isLoaded()) {
 			DimensionalGeneratedCache.clear();
 			DimensionalGeneratedCache.initialize();
 			DimensionalGeneratedCache.load((CompoundTag)tag.get(DIM_GEN_REGISTRY_NAME));
+			DimensionalGeneratedCache.markAllDirty();
 		}
 		
 		/*
@@ -104,8 +107,8 @@ public class TreasureSavedData extends SavedData {
 		try {
 			updateCompound(tag, CHEST_GEN_REGISTRY_NAME, RarityLevelWeightedChestGeneratorRegistry.save());
 
-			// update tag
-			updateCompound(tag, DIM_GEN_REGISTRY_NAME, DimensionalGeneratedCache.save());
+			// write only the changed chest registry region shards
+			DimensionalGeneratedCache.saveShards();
 
 			// update feature dimensional simple caches
 			updateCompound(tag, FEATURE_CACHES_NAME, FeatureCaches.save());
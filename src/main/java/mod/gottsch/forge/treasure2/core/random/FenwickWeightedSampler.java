@@ -0,0 +1,146 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.random;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A mutable weighted sampler over indexes 0..size-1 backed by a Fenwick (binary indexed) tree of prefix sums.
+ * Weights are updated in place in O(log n) and sampling is O(log n), without allocation.
+ * Weights less than 0 are treated as 0 and are never selected.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public class FenwickWeightedSampler {
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private int[] weights;
+	// 1-based
+	private long[] tree;
+	private int size;
+	private long total;
+
+	public FenwickWeightedSampler() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public FenwickWeightedSampler(int capacity) {
+		weights = new int[Math.max(1, capacity)];
+		tree = new long[weights.length + 1];
+	}
+
+	/**
+	 * Appends a weight.
+	 * @param weight
+	 * @return the index of the weight
+	 */
+	public int add(int weight) {
+		if (size == weights.length) {
+			weights = Arrays.copyOf(weights, size * 2);
+			tree = new long[weights.length + 1];
+		}
+		weights[size++] = Math.max(0, weight);
+		rebuild();
+		return size - 1;
+	}
+
+	/**
+	 * 
+	 * @param index
+	 * @param weight
+	 */
+	public void set(int index, int weight) {
+		checkIndex(index);
+		weight = Math.max(0, weight);
+		long delta = (long) weight - weights[index];
+		if (delta == 0) {
+			return;
+		}
+		weights[index] = weight;
+		total += delta;
+		for (int i = index + 1; i <= size; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	public int get(int index) {
+		checkIndex(index);
+		return weights[index];
+	}
+
+	/**
+	 * 
+	 * @param random
+	 * @return the selected index, or -1 if the total weight is 0
+	 */
+	public int sample(Random random) {
+		if (total <= 0) {
+			return -1;
+		}
+		long remaining = random.nextLong(total);
+		int position = 0;
+		for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next <= size && tree[next] <= remaining) {
+				position = next;
+				remaining -= tree[next];
+			}
+		}
+		// position is the count of entries whose prefix sum <= remaining, ie the 0-based selected index
+		return position;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(weights, 0, size, 0);
+		Arrays.fill(tree, 0L);
+		size = 0;
+		total = 0;
+	}
+
+	/*
+	 * O(n) construction of the tree from the weights.
+	 */
+	private void rebuild() {
+		Arrays.fill(tree, 0L);
+		total = 0;
+		for (int i = 1; i <= size; i++) {
+			tree[i] += weights[i - 1];
+			total += weights[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= size) {
+				tree[parent] += tree[i];
+			}
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+		}
+	}
+}
@@ -18,38 +18,47 @@
 package mod.gottsch.forge.treasure2.core.random;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import mod.gottsch.neo.gottschcore.random.WeightedCollection;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 
 /**
  * This class was designed with the assumption that there is a 1-1 mapping from T (rarity) to weight.
+ * Each T has an original weight and an adjusted weight. The adjusted weights are held in a
+ * FenwickWeightedSampler so they can be changed in place and sampled in O(log n).
  * 
  * @author Mark Gottschling on Sep 22, 2022
  *
  */
 public class LevelWeightedCollection<T> {
 	/*
-	 * the mapping from T to weight pairs
-	 * where the left is the original value, and right is the adjusted value
+	 * the items in index order
+	 */
+	final List<T> items;
+	final Object2IntOpenHashMap<T> indexes;
+	/*
+	 * the original weights, by index
 	 */
-	Map<T, Pair<Integer, Integer>> original;
+	final IntArrayList originalWeights;
 	/*
-	 * the weighted collection of weight to T
+	 * the adjusted weights, by index
 	 */
-	WeightedCollection<Integer, T> collection;
+	final FenwickWeightedSampler sampler;
+	// null = the TreasureRandom of the calling thread
+	final Random random;
 
 	/**
 	 * 
 	 */
 	public LevelWeightedCollection() {
-		this(new Random());
+		this(null);
 	}
 
 	/**
@@ -57,8 +66,12 @@ public class LevelWeightedCollection<T> {
 	 * @param random
 	 */
 	public LevelWeightedCollection(Random random) {
-		original = new HashMap<>();
-		collection = new WeightedCollection<Integer, T>(random);
+		this.random = random;
+		items = new ArrayList<>();
+		indexes = new Object2IntOpenHashMap<>();
+		indexes.defaultReturnValue(-1);
+		originalWeights = new IntArrayList();
+		sampler = new FenwickWeightedSampler();
 	}
 
 	/**
@@ -68,9 +81,7 @@ public class LevelWeightedCollection<T> {
 	 * @return
 	 */
 	public LevelWeightedCollection<T> add(Integer weight, T item) {
-		original.put(item, Pair.of(weight, weight));
-		collection.add(weight, item);
-		return this;
+		return add(weight, weight, item);
 	}
 	
 	/**
@@ -80,60 +91,105 @@ public class LevelWeightedCollection<T> {
 	 * @return
 	 */
 	public LevelWeightedCollection<T> add(Pair<Integer, Integer> weightPair, T item) {
-		original.put(item, weightPair);
-		collection.add(weightPair.getRight(), item);
+		return add(weightPair.getLeft(), weightPair.getRight(), item);
+	}
+
+	/**
+	 * Adds the item, or replaces the weights of an existing item.
+	 * @param originalWeight
+	 * @param adjustedWeight
+	 * @param item
+	 * @return
+	 */
+	public synchronized LevelWeightedCollection<T> add(int originalWeight, int adjustedWeight, T item) {
+		int index = indexes.getInt(item);
+		if (index < 0) {
+			indexes.put(item, items.size());
+			items.add(item);
+			originalWeights.add(originalWeight);
+			sampler.add(adjustedWeight);
+		}
+		else {
+			originalWeights.set(index, originalWeight);
+			sampler.set(index, adjustedWeight);
+		}
 		return this;
 	}
 
 	/**
-	 * 
+	 * Resets the weight of type to its original value and increments the weights of all the others, in place.
 	 * @param incrementAmount
 	 * @param type
-	 * @return
+	 * @return this collection
 	 */
-	public LevelWeightedCollection<T> adjustExcept(Integer incrementAmount, T type) {
-		LevelWeightedCollection<T> col = new LevelWeightedCollection<>();
-		original.forEach((key, pair) -> {
-			if (key.equals(type)) {	
-				// add original value to the collection
-				col.collection.add(pair.getLeft(), key);
-				// reset the value of the pair
-				col.original.put(key, Pair.of(pair.getLeft(), pair.getLeft()));
+	public synchronized LevelWeightedCollection<T> adjustExcept(int incrementAmount, T type) {
+		for (int index = 0; index < items.size(); index++) {
+			if (items.get(index).equals(type)) {
+				sampler.set(index, originalWeights.getInt(index));
 			}
 			else {
-				// add adjusted value to the collection
-				col.collection.add(pair.getRight() + incrementAmount, key);
-				
-				// adjust the value of the pair (NOTE value == right)
-				col.original.put(key, Pair.of(pair.getLeft(), pair.getRight() + incrementAmount));
+				sampler.set(index, sampler.get(index) + incrementAmount);
 			}
-		});
-		// update original
-		return col;
+		}
+		return this;
 	}
 	
 	/**
 	 * 
-	 * @return
+	 * @return the selected item, or null if the collection is empty
 	 */
-	public T next() {
-		return collection.next();
+	public synchronized T next() {
+		int index = sampler.sample(random != null ? random : TreasureRandom.getRandom());
+		return index < 0 ? null : items.get(index);
 	}
-	
-	public List<String> dump() {
+
+	/**
+	 * 
+	 * @param item
+	 * @return the original weight or -1 if the item isn't in the collection
+	 */
+	public synchronized int getOriginalWeight(T item) {
+		int index = indexes.getInt(item);
+		return index < 0 ? -1 : originalWeights.getInt(index);
+	}
+
+	/**
+	 * 
+	 * @param item
+	 * @return the adjusted weight or -1 if the item isn't in the collection
+	 */
+	public synchronized int getWeight(T item) {
+		int index = indexes.getInt(item);
+		return index < 0 ? -1 : sampler.get(index);
+	}
+
+	public synchronized List<String> dump() {
 		List<String> list = new ArrayList<>();
 		list.add("Collection:");
-		this.collection.getMap().forEach((key, value) -> {
-			list.add(String.format("%s = %s", key, value));
-		});
+		for (int index = 0; index < items.size(); index++) {
+			list.add(String.format("%s = %s", sampler.get(index), items.get(index)));
+		}
 		list.add("Pairs:");
-		this.original.forEach((left, right) -> {
+		getOriginal().forEach((left, right) -> {
 			list.add(String.format("left -> %s, right ->  %s", left, right));
 		});
 		return list;
 	}
 
-	public Map<T, Pair<Integer, Integer>> getOriginal() {
-		return original;
+	/**
+	 * 
+	 * @return a snapshot of the mapping from T to weight pairs,
+	 * where the left is the original value, and right is the adjusted value
+	 */
+	public synchronized Map<T, Pair<Integer, Integer>> getOriginal() {
+		Map<T, Pair<Integer, Integer>> map = new LinkedHashMap<>();
+		for (int index = 0; index < items.size(); index++) {
+			map.put(items.get(index), Pair.of(originalWeights.getInt(index), sampler.get(index)));
+		}
+		return map;
+	}
+
+	public synchronized int size() {
+		return items.size();
 	}
 }
@@ -24,7 +24,6 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import mod.gottsch.neo.gottschcore.enums.IRarity;
 import mod.gottsch.forge.treasure2.api.TreasureApi;
-import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -40,10 +39,13 @@ public class RarityLevelWeightedCollection extends LevelWeightedCollection<IRari
 		super();
 	}
 
+	/**
+	 * Copy constructor
+	 * @param col
+	 */
 	public RarityLevelWeightedCollection(LevelWeightedCollection<IRarity> col) {
 		super();
-		this.collection = col.collection;
-		this.original = col.original;
+		col.getOriginal().forEach((rarity, pair) -> add(pair, rarity));
 	}
 	
 	public RarityLevelWeightedCollection(Random random) {
@@ -68,28 +70,29 @@ public class RarityLevelWeightedCollection extends LevelWeightedCollection<IRari
 	 * 
 	 * @return
 	 */
-	public CompoundTag save() {
+	public synchronized CompoundTag save() {
 		CompoundTag tag = new CompoundTag();
 		
 		ListTag originalList = new ListTag();
-		original.forEach((key, value) -> {
+		ListTag collectionList = new ListTag();
+		for (int index = 0; index < items.size(); index++) {
+			IRarity rarity = items.get(index);
+			int weight = sampler.get(index);
 			// create an element tag
 			CompoundTag element = new CompoundTag();
-			element.putString("key", key.getName());
-			element.putInt("left", value.getLeft());
-			element.putInt("right", value.getRight());
+			element.putString("key", rarity.getName());
+			element.putInt("left", originalWeights.getInt(index));
+			element.putInt("right", weight);
 			// add element to list
 			originalList.add(element);
-		});
+			
+			// the adjusted weights, stored as integers (was cumulative double keys)
+			CompoundTag weightElement = new CompoundTag();
+			weightElement.putInt("weight", weight);
+			weightElement.putString("value", rarity.getName());
+			collectionList.add(weightElement);
+		}
 		tag.put("original", originalList);
-		
-		ListTag collectionList = new ListTag();
-		collection.getMap().forEach((key, value) -> {
-			CompoundTag element = new CompoundTag();
-			element.putDouble("key", key);
-			element.putString("value", value.getName());
-			collectionList.add(element);
-		});
 		tag.put("collection", collectionList);
 		
 		return tag;
@@ -116,7 +119,8 @@ public class RarityLevelWeightedCollection extends LevelWeightedCollection<IRari
 					}
 					Optional<IRarity> rarity = TreasureApi.getRarity(key);
 					if (rarity.isPresent()) {
-						getOriginal().put(rarity.get(), Pair.of(left, right));
+						// replaces the weights of the rarity in place
+						add(left, right, rarity.get());
 					}
 				}
 			});
@@ -124,27 +128,5 @@ public class RarityLevelWeightedCollection extends LevelWeightedCollection<IRari
 		/*
 		 *  don't bother to load collection as it is a view of the original.getPair().getRight();
 		 */
-		// clear the collection
-		collection.clear();
-		getOriginal().forEach((rarity, pair) -> {
-			collection.add(pair.getRight(), rarity);
-		});
-//		if (tag.contains("collection")) {
-//			ListTag originalList = tag.getList("collection", Tag.TAG_COMPOUND);
-//			originalList.forEach(element -> {
-//				CompoundTag elementTag = (CompoundTag)element;
-//				if (elementTag.contains("key")) {
-//					double key = elementTag.getDouble("key");
-//					String value = "";
-//					if (elementTag.contains("value")) {
-//						value = elementTag.getString("value");
-//					}
-//					Optional<IRarity> rarity = TreasureApi.getRarity(value);
-//					if (rarity.isPresent()) {
-//						collection.add(Integer.valueOf((int)key), rarity.get());
-//					}
-//				}
-//			});
-//		}
 	}
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.random;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.SingleThreadedRandomSource;
+
+/**
+ * The shared source of randomness for code paths that don't have a level or context RandomSource at hand.
+ * Instances are per thread, so there is no allocation and no contention on the global seed uniquifier
+ * that every new Random() goes through.
+ * A fixed seed can be set for tests and benchmarks; each thread then starts from that seed.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class TreasureRandom {
+	private static volatile int generation;
+	private static volatile Long seed;
+
+	private static final ThreadLocal<Sources> SOURCES = ThreadLocal.withInitial(Sources::new);
+
+	private TreasureRandom() {}
+
+	/**
+	 * 
+	 * @return the RandomSource of the current thread. Do not share it with other threads.
+	 */
+	public static RandomSource get() {
+		return sources().source;
+	}
+
+	/**
+	 * For the APIs that require a java.util.Random, ie. Collections.shuffle().
+	 * @return the Random of the current thread. Do not share it with other threads.
+	 */
+	public static Random getRandom() {
+		Sources sources = sources();
+		return sources.random != null ? sources.random : ThreadLocalRandom.current();
+	}
+
+	/**
+	 * Makes all subsequently requested sources deterministic.
+	 * @param seed
+	 */
+	public static synchronized void setSeed(long seed) {
+		TreasureRandom.seed = seed;
+		generation++;
+	}
+
+	/**
+	 * Reverts to randomly seeded sources.
+	 */
+	public static synchronized void clearSeed() {
+		TreasureRandom.seed = null;
+		generation++;
+	}
+
+	private static Sources sources() {
+		Sources sources = SOURCES.get();
+		if (sources.generation != generation) {
+			sources = new Sources();
+			SOURCES.set(sources);
+		}
+		return sources;
+	}
+
+	/*
+	 * the sources of a thread for a seed generation
+	 */
+	private static class Sources {
+		final int generation;
+		final RandomSource source;
+		// null = use ThreadLocalRandom
+		final Random random;
+
+		Sources() {
+			this.generation = TreasureRandom.generation;
+			Long seed = TreasureRandom.seed;
+			if (seed == null) {
+				this.source = RandomSource.createNewThreadLocalInstance();
+				this.random = null;
+			}
+			else {
+				this.source = new SingleThreadedRandomSource(seed);
+				this.random = new Random(seed);
+			}
+		}
+	}
+}
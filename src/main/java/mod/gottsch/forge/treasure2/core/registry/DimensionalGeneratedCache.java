@@ -17,13 +17,18 @@
  */
 package mod.gottsch.forge.treasure2.core.registry;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Supplier;
 
+import it.unimi.dsi.fastutil.longs.LongList;
+
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.api.TreasureApi;
 import mod.gottsch.forge.treasure2.core.config.ChestFeaturesConfiguration;
 import mod.gottsch.forge.treasure2.core.config.Config;
+import mod.gottsch.forge.treasure2.core.persistence.RegionShardStorage;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedChestContext;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedContext;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
@@ -44,9 +49,22 @@ import net.minecraft.resources.ResourceLocation;
 public class DimensionalGeneratedCache {	
 	private static final String DIMENSION_NAME = "dimension";
 	private static final String CHEST_CACHE_NAME = "chestCache";
+	private static final String SHARD_VERSION = "version";
+	private static final String SHARD_DATA = "data";
+	private static final String SEQUENCE = "seq";
+	private static final int CURRENT_SHARD_VERSION = 1;
 
 	public static final Map<ResourceLocation, Map<IFeatureType, GeneratedCache<? extends GeneratedContext>>> CHEST_CACHE = new HashMap<>();
 
+	/*
+	 * the region shard file storage for the chest cache of the current world
+	 */
+	private static RegionShardStorage storage;
+	/*
+	 * whether the chest cache has been populated from persistence for the current world
+	 */
+	private static boolean loaded;
+
 	/**
 	 * 
 	 */
@@ -98,7 +116,112 @@ public class DimensionalGeneratedCache {
 	}
 
 	/**
-	 * 
+	 * Sets the shard storage for the current world.
+	 * @param storage
+	 */
+	public static void setStorage(RegionShardStorage storage) {
+		DimensionalGeneratedCache.storage = storage;
+		DimensionalGeneratedCache.loaded = false;
+	}
+
+	public static boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Flags every region of every cache as changed, ie. after loading from the legacy single compound,
+	 * so that all the regions are written out as shards on the next save.
+	 */
+	public static void markAllDirty() {
+		CHEST_CACHE.values().forEach(map -> map.values().forEach(GeneratedCache::markAllDirty));
+	}
+
+	/**
+	 * Writes only the region shards that changed since the last save.
+	 * The cost is proportional to the number of changed regions, not the size of the caches.
+	 */
+	public static void saveShards() {
+		if (storage == null) {
+			return;
+		}
+		CHEST_CACHE.forEach((dimension, map) -> {
+			map.forEach((featureType, cache) -> {
+				LongList dirtyRegions = cache.drainDirtyRegions();
+				if (dirtyRegions.isEmpty()) {
+					return;
+				}
+				Path folder = storage.getFolder(dimension, featureType.getName());
+				for (int i = 0; i < dirtyRegions.size(); i++) {
+					long regionKey = dirtyRegions.getLong(i);
+					ListTag dataTag = new ListTag();
+					cache.forEachInRegion(regionKey, (sequence, datum) -> {
+						CompoundTag datumTag = datum.save();
+						datumTag.putLong(SEQUENCE, sequence);
+						dataTag.add(datumTag);
+					});
+					try {
+						if (dataTag.isEmpty()) {
+							storage.delete(folder, regionKey);
+						}
+						else {
+							CompoundTag shardTag = new CompoundTag();
+							shardTag.putInt(SHARD_VERSION, CURRENT_SHARD_VERSION);
+							shardTag.put(SHARD_DATA, dataTag);
+							storage.write(folder, regionKey, shardTag);
+						}
+					}
+					catch(IOException e) {
+						Treasure.LOGGER.error("unable to save chest cache shard for dimension -> {}, feature -> {}", dimension, featureType.getName(), e);
+						// retry on the next save
+						cache.markRegionDirty(regionKey);
+					}
+				}
+			});
+		});
+	}
+
+	/**
+	 * Populates the (initialized) caches from the region shards, in original insertion order.
+	 * @return whether any shards were found
+	 */
+	public static boolean loadShards() {
+		if (storage == null || !storage.exists()) {
+			return false;
+		}
+		Treasure.LOGGER.debug("loading chest cache shards...");
+		boolean found = false;
+		for (Map.Entry<ResourceLocation, Map<IFeatureType, GeneratedCache<? extends GeneratedContext>>> dimensionEntry : CHEST_CACHE.entrySet()) {
+			for (Map.Entry<IFeatureType, GeneratedCache<? extends GeneratedContext>> cacheEntry : dimensionEntry.getValue().entrySet()) {
+				List<CompoundTag> shards = storage.readAll(storage.getFolder(dimensionEntry.getKey(), cacheEntry.getKey().getName()));
+				if (shards.isEmpty()) {
+					continue;
+				}
+				found = true;
+				List<CompoundTag> data = new ArrayList<>();
+				shards.forEach(shard -> shard.getList(SHARD_DATA, Tag.TAG_COMPOUND).forEach(datum -> data.add((CompoundTag)datum)));
+				data.sort(Comparator.comparingLong(datum -> datum.getLong(SEQUENCE)));
+
+				@SuppressWarnings("unchecked")
+				GeneratedCache<GeneratedContext> cache = (GeneratedCache<GeneratedContext>) cacheEntry.getValue();
+				cache.clear();
+				data.forEach(datum -> {
+					GeneratedContext context = new GeneratedChestContext();
+					context.load(datum);
+					if (context.getRarity() != null && context.getCoords() != null) {
+						// keep the persisted sequence so the age order matches the shards still on disk
+						cache.restore(context.getRarity(), context.getCoords(), context, datum.getLong(SEQUENCE));
+					}
+				});
+				// freshly loaded regions are in sync with disk
+				cache.drainDirtyRegions();
+			}
+		}
+		loaded = found;
+		return found;
+	}
+
+	/**
+	 * Legacy. Builds the entire cache as a single compound.
 	 * @return
 	 */
 	public static Tag save() {
@@ -147,6 +270,7 @@ public class DimensionalGeneratedCache {
 	public static void load(CompoundTag tag) {
 		if (tag.contains(CHEST_CACHE_NAME)) {
 			loadRegistry(tag.getList(CHEST_CACHE_NAME, Tag.TAG_COMPOUND), CHEST_CACHE, GeneratedChestContext::new);
+			loaded = true;
 		}
 	}
 
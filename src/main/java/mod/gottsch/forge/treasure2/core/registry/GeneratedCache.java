@@ -17,27 +17,27 @@
  */
 package mod.gottsch.forge.treasure2.core.registry;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
-import com.google.common.collect.Table;
-import com.google.common.collect.Tables;
-
-import mod.gottsch.neo.gottschcore.bst.CoordsInterval;
-import mod.gottsch.neo.gottschcore.bst.CoordsIntervalTree;
-import mod.gottsch.neo.gottschcore.bst.IInterval;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import mod.gottsch.neo.gottschcore.enums.IRarity;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.Treasure;
+import mod.gottsch.forge.treasure2.core.cache.ConcurrentRegionIndex;
+import mod.gottsch.forge.treasure2.core.cache.ConcurrentRegionIndex.SequencedConsumer;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedContext;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
 
 /**
  * Renamed from ChestRegistry in 1.12.2/1.16.5
- * This Registry is a non-Singleton.
+ * This Registry is a non-Singleton and is safe to use from concurrent worldgen threads.
  * 
  * @author Mark Gottschling on Jan 22, 2018
  *
@@ -45,17 +45,18 @@ import mod.gottsch.forge.treasure2.core.registry.support.GeneratedContext;
 public class GeneratedCache<T extends GeneratedContext> {
 	
 	/*
-	 * a Interval BST registry to determine the proximity of chests.
+	 * a region-sharded, thread-safe index to determine the proximity of chests
+	 * and maintain the age of insertion of chests.
 	 */
-	private final CoordsIntervalTree<T> distanceRegistry;
+	private final ConcurrentRegionIndex<T> distanceRegistry;
 	/*
-	 * a Linked List registry to maintain descending age of insertion of chests
+	 * a registry for rarity/position lookups, keyed by the packed block position
 	 */
-	private final LinkedList<T> ageRegistry;
+	private final Map<IRarity, PositionTable<T>> tableRegistry;
 	/*
-	 * a Table registry for rarity/key lookups
+	 * a registry, by rarity, of the contexts that are valid treasure map targets
 	 */
-	private final Table<IRarity, String, T> tableRegistry;	
+	private final Map<IRarity, CandidateIndex<T>> chartableRegistry;
 	
 	private int registrySize;
 	
@@ -63,9 +64,9 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * 
 	 */
 	public GeneratedCache() {
-		distanceRegistry = new CoordsIntervalTree<>();
-		ageRegistry = new LinkedList<>();
-		tableRegistry = Tables.newCustomTable(new LinkedHashMap<>(), LinkedHashMap::new);
+		distanceRegistry = new ConcurrentRegionIndex<>();
+		tableRegistry = new ConcurrentHashMap<>();
+		chartableRegistry = new ConcurrentHashMap<>();
 	}
 	
 	/**
@@ -77,12 +78,14 @@ public class GeneratedCache<T extends GeneratedContext> {
 		this.registrySize = size;
 	}
 	
-	public boolean isRegistered(final IRarity rarity, final String key) {
-		return tableRegistry.contains(rarity, key);
+	public boolean isRegistered(final IRarity rarity, final ICoords key) {
+		PositionTable<T> row = tableRegistry.get(rarity);
+		return row != null && row.containsKey(asLong(key));
 	}
 	
 	public boolean hasIRarity(final IRarity rarity) {
-		return tableRegistry.containsColumn(rarity);
+		PositionTable<T> row = tableRegistry.get(rarity);
+		return row != null && !row.isEmpty();
 	}
 	
 	/**
@@ -91,27 +94,52 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * @param rarity
 	 * @param info
 	 */
-	public synchronized void cache(final IRarity rarity, final ICoords key, final T info) {
+	public void cache(final IRarity rarity, final ICoords key, final T info) {
+		cache(rarity, key, info, 0L);
+	}
+	
+	/**
+	 * Caches a persisted context with its original insertion sequence.
+	 * Contexts should be restored oldest first.
+	 * @param rarity
+	 * @param key
+	 * @param info
+	 * @param sequence the persisted sequence, or 0 if unknown
+	 */
+	public void restore(final IRarity rarity, final ICoords key, final T info, long sequence) {
+		cache(rarity, key, info, sequence);
+	}
+	
+	private void cache(final IRarity rarity, final ICoords key, final T info, long sequence) {
+		long packed = asLong(key);
+		T previous = distanceRegistry.put(packed, info, sequence);
+		if (previous != null) {
+			removeFromTable(previous.getRarity(), packed);
+			removeChartable(previous);
+		}
+		tableRegistry.computeIfAbsent(rarity, r -> new PositionTable<>()).put(packed, info);
+		updateChartable(info);
+		
 		// if bigger than max size of registry, remove the first (oldest) element
-		if (ageRegistry.size() > getRegistrySize()) {
-			unregisterFirst();
+		while (distanceRegistry.size() > getRegistrySize()) {
+			if (!unregisterFirst()) {
+				break;
+			}
 		}
-		distanceRegistry.insert(new CoordsInterval<>(key.withY(0), key.add(1, -key.getY(), 1), info));
-		ageRegistry.add(info);
-		tableRegistry.put(rarity, key.toShortString(), info);
 	}
 	
 	/**
 	 * 
+	 * @return whether an element was removed
 	 */
-	public synchronized void unregisterFirst() {
-		T removeGenContext = ageRegistry.pollFirst();
+	public boolean unregisterFirst() {
+		T removeGenContext = distanceRegistry.pollEldest();
 		if (removeGenContext != null) {
-			if (tableRegistry.contains(removeGenContext.getRarity(), removeGenContext.getCoords().toShortString())) {
-				tableRegistry.remove(removeGenContext.getRarity(), removeGenContext.getCoords().toShortString());
-			}
-			distanceRegistry.delete(new CoordsInterval<>(removeGenContext.getCoords(), removeGenContext.getCoords(), null));
+			removeFromTable(removeGenContext.getRarity(), asLong(removeGenContext.getCoords()));
+			removeChartable(removeGenContext);
+			return true;
 		}
+		return false;
 	}
 	
 	/**
@@ -119,13 +147,12 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * @param key
 	 * @param rarity
 	 */
-	public synchronized void unregister(final IRarity rarity, final ICoords key) {		
-		if (tableRegistry.contains(rarity, key.toShortString())) {
-			T genContext = tableRegistry.remove(rarity, key.toShortString());
-			if (genContext != null) {
-				ageRegistry.remove(genContext);
-				distanceRegistry.delete(new CoordsInterval<>(key, key, null));
-			}
+	public void unregister(final IRarity rarity, final ICoords key) {
+		long packed = asLong(key);
+		T genContext = removeFromTable(rarity, packed);
+		if (genContext != null) {
+			distanceRegistry.remove(packed);
+			removeChartable(genContext);
 		}
 	}
 	
@@ -133,10 +160,14 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * 
 	 * @param genContext
 	 */
-	public synchronized void unregister(T genContext) {
-		ageRegistry.remove(genContext);
-		tableRegistry.remove(genContext.getRarity(), genContext.getCoords().toShortString());
-		distanceRegistry.delete(new CoordsInterval<>(genContext.getCoords(), genContext.getCoords(), null));
+	public void unregister(T genContext) {
+		long packed = asLong(genContext.getCoords());
+		removeFromTable(genContext.getRarity(), packed);
+		T removed = distanceRegistry.remove(packed);
+		removeChartable(genContext);
+		if (removed != null) {
+			removeChartable(removed);
+		}
 	}
 	
 	/**
@@ -145,24 +176,64 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * @param key
 	 * @return
 	 */
-	public Optional<T> get(IRarity rarity, String key) {
-		if (tableRegistry.contains(rarity, key)) {
-			return Optional.of(tableRegistry.get(rarity, key));
+	public Optional<T> get(IRarity rarity, ICoords key) {
+		return get(rarity, asLong(key));
+	}
+	
+	public Optional<T> get(IRarity rarity, BlockPos key) {
+		return get(rarity, key.asLong());
+	}
+	
+	/**
+	 * 
+	 * @param rarity
+	 * @param key the packed block position, as per BlockPos.asLong()
+	 * @return
+	 */
+	public Optional<T> get(IRarity rarity, long key) {
+		PositionTable<T> row = tableRegistry.get(rarity);
+		if (row != null) {
+			return Optional.ofNullable(row.get(key));
 		}
 		return Optional.empty();
 	}
 	
 	// Optional
 	public Optional<List<T>> getByIRarity(IRarity rarity) {
-		if (tableRegistry.containsRow(rarity)) {
+		PositionTable<T> infoMap = tableRegistry.get(rarity);
+		if (infoMap != null) {
 			Treasure.LOGGER.debug("table registry contains rarity -> {}", rarity);
-			Map<String, T> infoMap = tableRegistry.row(rarity);			
-			Treasure.LOGGER.debug("chest infos size -> {}", infoMap.size());
-			return Optional.of(infoMap.values().stream().collect(Collectors.toList()));
+			List<T> values = infoMap.values();
+			Treasure.LOGGER.debug("chest infos size -> {}", values.size());
+			return Optional.of(values);
 		}
 		return Optional.empty();
 	}
 
+	/**
+	 * Selects a random treasure map target from the precomputed index.
+	 * @param rarity
+	 * @param random
+	 * @return
+	 */
+	public Optional<T> getRandomChartable(IRarity rarity, RandomSource random) {
+		CandidateIndex<T> candidates = chartableRegistry.get(rarity);
+		if (candidates == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(candidates.random(random));
+	}
+	
+	/**
+	 * 
+	 * @param rarity
+	 * @return the number of treasure map targets of the rarity
+	 */
+	public int getChartableCount(IRarity rarity) {
+		CandidateIndex<T> candidates = chartableRegistry.get(rarity);
+		return candidates == null ? 0 : candidates.size();
+	}
+
 	/**
 	 * 
 	 * @param start
@@ -170,11 +241,7 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * @return
 	 */
 	public boolean withinArea(ICoords start, ICoords end) {
-		List<IInterval<T>> overlaps = distanceRegistry.getOverlapping(distanceRegistry.getRoot(), new CoordsInterval<>(start, end));
-		if (overlaps.isEmpty()) {
-			return false;
-		}
-		return true;
+		return distanceRegistry.anyWithin(start.getX(), start.getZ(), end.getX(), end.getZ());
 	}
 	
 	/**
@@ -182,16 +249,174 @@ public class GeneratedCache<T extends GeneratedContext> {
 	 * @return
 	 */
 	public List<T> getValues() {
-		return ageRegistry;
+		return distanceRegistry.values();
+	}
+	
+	/**
+	 * Flags the region containing the key as changed, for contexts that were mutated in place.
+	 * The context's treasure map target status is re-evaluated as well.
+	 * @param key
+	 */
+	public void markDirty(ICoords key) {
+		long packed = asLong(key);
+		distanceRegistry.markDirty(packed);
+		T context = distanceRegistry.get(packed);
+		if (context != null) {
+			updateChartable(context);
+		}
+	}
+	
+	public void markAllDirty() {
+		distanceRegistry.markAllDirty();
+	}
+	
+	/**
+	 * 
+	 * @return the regions that changed since the last call
+	 */
+	public LongList drainDirtyRegions() {
+		return distanceRegistry.drainDirtyRegions();
+	}
+	
+	/**
+	 * Flags a region as changed so that it is written again on the next save.
+	 * @param regionKey
+	 */
+	public void markRegionDirty(long regionKey) {
+		distanceRegistry.markRegionDirty(regionKey);
+	}
+	
+	/**
+	 * 
+	 * @param regionKey
+	 * @param consumer
+	 */
+	public void forEachInRegion(long regionKey, SequencedConsumer<T> consumer) {
+		distanceRegistry.forEachInRegion(regionKey, consumer);
+	}
+	
+	public boolean isEmpty() {
+		return distanceRegistry.isEmpty();
+	}
+	
+	public int size() {
+		return distanceRegistry.size();
 	}
 	
 	public void clear() {
-		ageRegistry.clear();
-		tableRegistry.clear();
 		distanceRegistry.clear();
+		tableRegistry.clear();
+		chartableRegistry.clear();
 	}
 
 	public int getRegistrySize() {
 		return registrySize;
 	}
+	
+	private T removeFromTable(IRarity rarity, long key) {
+		PositionTable<T> row = tableRegistry.get(rarity);
+		if (row != null) {
+			return row.remove(key);
+		}
+		return null;
+	}
+	
+	private void updateChartable(T context) {
+		if (context.getRarity() == null) {
+			return;
+		}
+		CandidateIndex<T> candidates = chartableRegistry.computeIfAbsent(context.getRarity(), r -> new CandidateIndex<>());
+		if (context.isChartable()) {
+			candidates.add(context);
+		}
+		else {
+			candidates.remove(context);
+		}
+	}
+	
+	private void removeChartable(T context) {
+		if (context.getRarity() == null) {
+			return;
+		}
+		CandidateIndex<T> candidates = chartableRegistry.get(context.getRarity());
+		if (candidates != null) {
+			candidates.remove(context);
+		}
+	}
+	
+	private static long asLong(ICoords coords) {
+		return BlockPos.asLong(coords.getX(), coords.getY(), coords.getZ());
+	}
+	
+	/*
+	 * a packed position -> context map. the rows are small and short-lived locks are cheaper
+	 * than the String keys the rows used to be keyed by.
+	 */
+	private static class PositionTable<T> {
+		private final Long2ObjectOpenHashMap<T> map = new Long2ObjectOpenHashMap<>();
+		
+		synchronized T put(long key, T value) {
+			return map.put(key, value);
+		}
+		
+		synchronized T get(long key) {
+			return map.get(key);
+		}
+		
+		synchronized T remove(long key) {
+			return map.remove(key);
+		}
+		
+		synchronized boolean containsKey(long key) {
+			return map.containsKey(key);
+		}
+		
+		synchronized boolean isEmpty() {
+			return map.isEmpty();
+		}
+		
+		synchronized List<T> values() {
+			return new ArrayList<>(map.values());
+		}
+	}
+	
+	/*
+	 * an identity set that supports O(1) add, remove and uniform random selection.
+	 */
+	private static class CandidateIndex<T> {
+		private final List<T> list = new ArrayList<>();
+		private final Reference2IntOpenHashMap<T> positions = new Reference2IntOpenHashMap<>();
+		
+		CandidateIndex() {
+			positions.defaultReturnValue(-1);
+		}
+		
+		synchronized void add(T value) {
+			if (!positions.containsKey(value)) {
+				positions.put(value, list.size());
+				list.add(value);
+			}
+		}
+		
+		synchronized void remove(T value) {
+			int index = positions.removeInt(value);
+			if (index < 0) {
+				return;
+			}
+			// move the last element into the vacated slot
+			T last = list.remove(list.size() - 1);
+			if (last != value) {
+				list.set(index, last);
+				positions.put(last, index);
+			}
+		}
+		
+		synchronized T random(RandomSource random) {
+			return list.isEmpty() ? null : list.get(random.nextInt(list.size()));
+		}
+		
+		synchronized int size() {
+			return list.size();
+		}
+	}
 }
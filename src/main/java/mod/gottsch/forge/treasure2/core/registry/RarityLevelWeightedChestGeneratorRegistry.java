@@ -230,7 +230,8 @@ public class RarityLevelWeightedChestGeneratorRegistry {
 		if (RARITY_SELECTOR.containsKey(location)) {
 			Map<IFeatureType, RarityLevelWeightedCollection> map = RARITY_SELECTOR.get(location);
 			if (map.containsKey(type)) {
-				map.put(type, new RarityLevelWeightedCollection(map.get(type).adjustExcept(weight, rarity)));
+				// in place - no new collection per generated chest
+				map.get(type).adjustExcept(weight, rarity);
 			}
 		}
 	}	
@@ -26,7 +26,6 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -34,6 +33,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Table;
 import com.google.gson.Gson;
@@ -45,7 +47,10 @@ import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.api.TreasureApi;
 import mod.gottsch.forge.treasure2.core.enums.ILootTableType;
 import mod.gottsch.forge.treasure2.core.enums.LootTableType;
-import mod.gottsch.forge.treasure2.core.util.ModUtil;
+import mod.gottsch.forge.treasure2.core.loot.InjectLootBindings;
+import mod.gottsch.forge.treasure2.core.registry.support.ArchiveScanner;
+import mod.gottsch.forge.treasure2.core.registry.support.ArchiveScanner.ArchiveEntry;
+import mod.gottsch.forge.treasure2.core.registry.support.ParallelLoader;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.storage.loot.Deserializers;
 import net.minecraftforge.event.level.LevelEvent;
@@ -74,31 +79,24 @@ public final class TreasureLootTableRegistry {
 	private static final List<String> REGISTERED_MODS;
 	private static final Map<String, Boolean> LOADED_MODS;
 
-	// the gson serializer for loot tables
-	private static final Gson GSON_INSTANCE = Deserializers.createLootTableSerializer().create();
 
-	/*
-	 * Master Guava Table of LootTables by Top-Level(Type) ex chests | wishables | injects, IRarity, List<LootTableShell>
-	 */
-	private final static Table<ILootTableType, IRarity, List<LootTableShell>> MASTER_TABLE = HashBasedTable.create();
-
-	/*
-	 * Master Map of LootTables by ResourceLocation
-	 */
-	private final static Map<ResourceLocation, LootTableShell> MASTER_MAP = new HashMap<>();
+	private static final String LOOT_TABLE_EXTENSION = ".json";
+	// the number of slowest files to report after each load
+	private static final int SLOWEST_REPORT_SIZE = 5;
 
 	// TODO will have to find ALL datapacks in world save and process each one separately
 	// TODO will also have to find ALL exploded dps on the file server and process (gets priority over dp)
-	// TODO will have to save ResourceLocation in shell and compare against already existing LTs and replace
 	/*
-	 * Master Guava Table of LootTables by Top-Level(Type) ex chests | wishables | injects, IRarity, List<LootTableShell>
+	 * The published, immutable registry of the master (jar) and datapack loot tables,
+	 * by Top-Level(Type) ex chests | wishables | injects, IRarity -> List<LootTableShell> and by ResourceLocation.
+	 * Loading builds a new snapshot and swaps it in when complete.
 	 */
-	private final static Table<ILootTableType, IRarity, List<LootTableShell>> DATAPACK_TABLE = HashBasedTable.create();
+	private static volatile Snapshot registry = Snapshot.EMPTY;
 
 	/*
-	 * Master Map of LootTables by ResourceLocation
+	 * the parse timings of the most recent load
 	 */
-	private final static Map<ResourceLocation, LootTableShell> DATAPACK_MAP = new HashMap<>();
+	private static volatile List<ParseTiming> lastParseTimings = List.of();
 
 	/*
 	 * the path to the world save folder
@@ -115,22 +113,27 @@ public final class TreasureLootTableRegistry {
 	 */
 	private TreasureLootTableRegistry() {}
 
+	/*
+	 * publishes a snapshot and re-resolves the inject loot bindings against it.
+	 */
+	private static void setRegistry(Snapshot snapshot) {
+		registry = snapshot;
+		InjectLootBindings.rebind();
+	}
+
 
 	/**
 	 * 
 	 */
-	public static void clearDatapacks() {
-		DATAPACK_MAP.clear();
-		DATAPACK_TABLE.clear();
+	public static synchronized void clearDatapacks() {
+		setRegistry(new Builder(registry).clearDatapacks().build());
 	}
 
 	/**
 	 * 
 	 */
-	public static void clearAll() {
-		MASTER_MAP.clear();
-		MASTER_TABLE.clear();
-		clearDatapacks();
+	public static synchronized void clearAll() {
+		setRegistry(Snapshot.EMPTY);
 	}
 	
 	/**
@@ -151,37 +154,117 @@ public final class TreasureLootTableRegistry {
 	}
 
 	/**
-	 * 
+	 * Opens the jar once for all the loot table groups, parses the shells concurrently
+	 * and then publishes them in a single registry update.
 	 * @param jarPath
 	 */
 	private static void registerFromJar(Path jarPath) {
-		LOOT_TABLES_GROUPS.forEach(category -> {
-			List<Path> lootTablePaths;
-			try {
-				// get all the paths in folder
-				lootTablePaths = ModUtil.getPathsFromResourceJAR(jarPath, JAR_LOOT_TABLES_ROOT + category.getValue());
-
-				for (Path path : lootTablePaths) {
-					Treasure.LOGGER.debug("loot table path -> {}", path);
-					// load the shell from the jar
-					Optional<LootTableShell> shell = loadFromJar(path);
-					// register
-					registerLootTable(category, path, shell);
-				}
-			} catch (Exception e) {
-				Treasure.LOGGER.warn("unable to locate file in jar -> {}", JAR_LOOT_TABLES_ROOT + category.getValue());
-//				e.printStackTrace();
+		List<ArchiveEntry> entries;
+		try {
+			entries = ArchiveScanner.scan(jarPath, JAR_LOOT_TABLES_ROOT, LOOT_TABLE_EXTENSION);
+		} catch (Exception e) {
+			Treasure.LOGGER.warn("unable to locate file in jar -> {}", JAR_LOOT_TABLES_ROOT);
+			return;
+		}
+		Batch batch = beginBatch();
+		parseShells(entries).forEach(parsed -> batch.registerLootTable(parsed.type, parsed.path, Optional.of(parsed.shell)));
+		batch.publish();
+	}
+
+	/**
+	 * Parses the loot table shells concurrently, timing each file.
+	 * Entries not under one of the LOOT_TABLES_GROUPS are skipped.
+	 * @param entries
+	 * @return the parsed shells, in entry order
+	 */
+	private static List<ParsedShell> parseShells(List<ArchiveEntry> entries) {
+		List<ParseTiming> timings = Collections.synchronizedList(new ArrayList<>());
+		List<ParsedShell> shells = ParallelLoader.map(entries, entry -> {
+			Optional<ILootTableType> type = getGroup(entry.getPath());
+			if (type.isEmpty()) {
+				return Optional.empty();
+			}
+			long start = System.nanoTime();
+			try (Reader reader = new InputStreamReader(entry.openStream(), StandardCharsets.UTF_8)) {
+				LootTableShell shell = loadLootTable(reader);
+				return Optional.ofNullable(shell).map(s -> new ParsedShell(type.get(), entry.getPath(), s));
 			}
-		});		
+			catch(Exception e) {
+				Treasure.LOGGER.error("Couldn't load resource loot table -> {}", entry, e);
+				return Optional.empty();
+			}
+			finally {
+				timings.add(new ParseTiming(entry.getArchive(), entry.getPath(), entry.getSize(), System.nanoTime() - start));
+			}
+		});
+		reportParseTimings(timings);
+		return shells;
+	}
+
+	/**
+	 * Logs the parse time of every file (debug) and the slowest files and the total per archive (info).
+	 * @param timings
+	 */
+	private static void reportParseTimings(List<ParseTiming> timings) {
+		if (timings.isEmpty()) {
+			return;
+		}
+		List<ParseTiming> sorted = new ArrayList<>(timings);
+		sorted.sort(Comparator.comparingLong(ParseTiming::getNanos).reversed());
+		sorted.forEach(timing -> Treasure.LOGGER.debug("parsed loot table -> {}", timing));
+
+		Map<Path, Long> byArchive = new LinkedHashMap<>();
+		sorted.forEach(timing -> byArchive.merge(timing.getArchive(), timing.getNanos(), Long::sum));
+		byArchive.forEach((archive, nanos) -> Treasure.LOGGER.info("parsed loot tables from -> {} in {} ms", archive.getFileName(), nanos / 1_000_000));
+		sorted.stream().limit(SLOWEST_REPORT_SIZE).forEach(timing -> Treasure.LOGGER.info("slowest loot table -> {}", timing));
+
+		lastParseTimings = List.copyOf(sorted);
+	}
+
+	/**
+	 * 
+	 * @param path ie data/treasure2/loot_tables/chests/common/...
+	 * @return the loot tables group the path belongs to
+	 */
+	private static Optional<ILootTableType> getGroup(Path path) {
+		if (path.getNameCount() < 5) {
+			return Optional.empty();
+		}
+		String group = path.getName(3).toString();
+		return LOOT_TABLES_GROUPS.stream().filter(type -> type.getValue().equalsIgnoreCase(group)).findFirst();
+	}
+
+	/**
+	 * Starts a batch of registrations that are published together as a single registry update.
+	 * Prefer a batch when registering more than a few tables - each single registration
+	 * copies and republishes the entire registry.
+	 * @return
+	 */
+	public static Batch beginBatch() {
+		return new Batch();
+	}
+
+	/**
+	 * Registers a single loot table and publishes the registry. 
+	 * @param key
+	 * @param path
+	 * @param shell
+	 * @see #beginBatch()
+	 */
+	public static synchronized void registerLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+		Builder builder = new Builder(registry);
+		registerLootTable(builder, key, path, shell);
+		setRegistry(builder.build());
 	}
 
 	/**
 	 * 
+	 * @param builder
 	 * @param key
 	 * @param path
 	 * @param shell
 	 */
-	public static void registerLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+	private static void registerLootTable(Builder builder, ILootTableType key, Path path, Optional<LootTableShell> shell) {
 		if (shell.isPresent()) {
 			// determine rarity TODO maybe should go the other way. path.getName(4)
 			Optional<IRarity> rarity = TreasureApi.getRarity(path.getName(path.getNameCount()-2).toString().toUpperCase());
@@ -193,24 +276,36 @@ public final class TreasureLootTableRegistry {
 				// add resourceLocation to shell
 				shell.get().setResourceLocation(resourceLocation);
 
-				if(!MASTER_TABLE.contains(key, rarity.get())) {
-					MASTER_TABLE.put(key, rarity.get(), new ArrayList<>());
-				}
-				MASTER_TABLE.get(key, rarity.get()).add(shell.get());
+				// replace any shell previously registered at this location
+				Builder.put(builder.table, key, rarity.get(), shell.get());
 				Treasure.LOGGER.debug("registering in table -> {} {} : {}", key, rarity.get(), resourceLocation.toString());
-				MASTER_MAP.put(resourceLocation, shell.get());
+				builder.map.put(resourceLocation, shell.get());
 				Treasure.LOGGER.debug("registering in map -> {}", resourceLocation.toString());
 			}
 		}
 	}
 
+	/**
+	 * Registers a single datapack loot table and publishes the registry.
+	 * @param key
+	 * @param path
+	 * @param shell
+	 * @see #beginBatch()
+	 */
+	public static synchronized void registerDatapacksLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+		Builder builder = new Builder(registry);
+		registerDatapacksLootTable(builder, key, path, shell);
+		setRegistry(builder.build());
+	}
+
 	/**
 	 * 
+	 * @param builder
 	 * @param key
 	 * @param path
 	 * @param shell
 	 */
-	public static void registerDatapacksLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+	private static void registerDatapacksLootTable(Builder builder, ILootTableType key, Path path, Optional<LootTableShell> shell) {
 		if (shell.isPresent()) {
 			// determine rarity TODO maybe should go the other way. path.getName(4)
 			Optional<IRarity> rarity = TreasureApi.getRarity(path.getName(path.getNameCount()-2).toString().toUpperCase());
@@ -222,21 +317,11 @@ public final class TreasureLootTableRegistry {
 				// add resourceLocation to shell
 				shell.get().setResourceLocation(resourceLocation);
 
-				if(!DATAPACK_TABLE.contains(key, rarity.get())) {
-					DATAPACK_TABLE.put(key, rarity.get(), new ArrayList<>());
-				}
-				// compare resource location to all shells at this table location
-				List<LootTableShell> list = DATAPACK_TABLE.get(key, rarity.get());
-				Optional<LootTableShell> foundShell = list.stream().filter(lts -> lts.getResourceLocation().equals(shell.get().getResourceLocation())).findFirst();
-				// remove element if it matches that new shell
-				if (foundShell.isPresent()) {
-					list.remove(foundShell.get());
-				}
-				// add the shell
-				list.add(shell.get());
+				// compare resource location to all shells at this table location, replacing a match
+				Builder.put(builder.datapackTable, key, rarity.get(), shell.get());
 
 				Treasure.LOGGER.debug("registering datapack in table -> {} {} : {}", key, rarity.get(), resourceLocation.toString());
-				DATAPACK_MAP.put(resourceLocation, shell.get());
+				builder.datapackMap.put(resourceLocation, shell.get());
 				Treasure.LOGGER.debug("registering datapack in map -> {}", resourceLocation.toString());
 			}
 		}
@@ -337,77 +422,49 @@ public final class TreasureLootTableRegistry {
 
 	/**
 	 * Only load once - not per  registered mod.
+	 * The flat datapacks folder and each datapack .zip are opened once for all the loot table groups,
+	 * all the shells are parsed in parallel and then published in a single registry update.
 	 * @param modID
 	 */
 	public static void loadDataPacks(String modID_xxx) {
-		String worldSaveFolderPathName = getWorldSaveFolder().toString();
+		Path worldSaveFolder = getWorldSaveFolder();
+		List<ArchiveEntry> entries = new ArrayList<>();
 
 		// load/register exploded datapacks from world save folder
-		LOOT_TABLES_GROUPS.forEach(category -> {
-			List<Path> lootTablePaths;
-			// build the path
-			Path folderPath = Paths.get(worldSaveFolderPathName, DATAPACKS_LOOT_TABLES_ROOT, category.getValue());
-			try {
-				lootTablePaths = ModUtil.getPathsFromFlatDatapacks(folderPath);
-
-				for (Path path : lootTablePaths) {
-					Treasure.LOGGER.debug("loot table path -> {}", path);
-					// load the shell from the jar
-					Optional<LootTableShell> shell = loadFromFileSystem(path);
-					// extra step - strip the beginning path from the path, so it is just data/treasure2/...
-					String p = path.toString().replace(worldSaveFolderPathName, "");
-					// register
-					registerDatapacksLootTable(category, Paths.get(p), shell);
-				}
-
-			} catch(NoSuchFileException e) {
-				// silently sallow exception
-			} catch (Exception e) {
-				Treasure.LOGGER.error("An error occurred attempting to register a loot table from the world save datapacks folder: ", e);
-			}
-		});
+		try {
+			entries.addAll(ArchiveScanner.scan(worldSaveFolder, DATAPACKS_LOOT_TABLES_ROOT, LOOT_TABLE_EXTENSION));
+		} catch (Exception e) {
+			Treasure.LOGGER.error("An error occurred attempting to register a loot table from the world save datapacks folder: ", e);
+		}
 
 		/*
 		 *  load/register datapacks .zip files from world save folder
 		 */
 		Treasure.LOGGER.debug("loading datapack files ...");
 		// get all .zip files in the folder (non-recursive)
-		try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(worldSaveFolderPathName))) {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldSaveFolder)) {
 			for (Path jarPath : stream) {
 				Treasure.LOGGER.debug("path -> {}", jarPath);
-				if (Files.isRegularFile(jarPath, new LinkOption[] {})) {
-					if (jarPath.getFileName().toString().endsWith(".zip")) {
-						// process this zip file
-						Treasure.LOGGER.debug("datapack file -> {}", jarPath.toString());
-						try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
-
-							/////////////////
-							LOOT_TABLES_GROUPS.forEach(category -> {
-								List<Path> lootTablePaths;
-								try {
-									// get all the paths in folder
-									lootTablePaths = ModUtil.getPathsFromResourceJAR(jarPath, JAR_LOOT_TABLES_ROOT + category.getValue());
-
-									for (Path path : lootTablePaths) {
-										Treasure.LOGGER.debug("loot table path -> {}", path);
-										// load the shell from the jar
-										Optional<LootTableShell> shell = loadFromZip(zipFile, path);//loadFromZip(jarPath, path);
-										// register
-										registerDatapacksLootTable(category, path, shell);
-									}
-								} catch (Exception e) {
-									// minimal message
-									Treasure.LOGGER.warn("warning: unable to load datapack -> {}", jarPath + "/" + JAR_LOOT_TABLES_ROOT + category.getValue());
-								}
-							});
-						}
-						///////////////////
+				if (Files.isRegularFile(jarPath, new LinkOption[] {}) && jarPath.getFileName().toString().endsWith(".zip")) {
+					// process this zip file
+					Treasure.LOGGER.debug("datapack file -> {}", jarPath.toString());
+					try {
+						entries.addAll(ArchiveScanner.scan(jarPath, JAR_LOOT_TABLES_ROOT, LOOT_TABLE_EXTENSION));
+					} catch (Exception e) {
+						// minimal message
+						Treasure.LOGGER.warn("warning: unable to load datapack -> {}", jarPath + "/" + JAR_LOOT_TABLES_ROOT);
 					}
 				}
 			}
+		} catch(NoSuchFileException e) {
+			// silently sallow exception
 		} catch(Exception e) {
 			Treasure.LOGGER.error("error: unable to load datapack:", e);
 		}
+
+		Batch batch = beginBatch();
+		parseShells(entries).forEach(parsed -> batch.registerDatapacksLootTable(parsed.type, parsed.path, Optional.of(parsed.shell)));
+		batch.publish();
 	}
 
 	/**
@@ -445,7 +502,7 @@ public final class TreasureLootTableRegistry {
 	 * @return
 	 */
 	protected static LootTableShell loadLootTable(String json) throws IllegalArgumentException, JsonParseException {
-		return GSON_INSTANCE.fromJson(json, LootTableShell.class);
+		return GsonHolder.INSTANCE.fromJson(json, LootTableShell.class);
 	}
 
 	/**
@@ -454,7 +511,7 @@ public final class TreasureLootTableRegistry {
 	 * @return
 	 */
 	protected static LootTableShell loadLootTable(Reader reader) {
-		return GSON_INSTANCE.fromJson(reader, LootTableShell.class);
+		return GsonHolder.INSTANCE.fromJson(reader, LootTableShell.class);
 	}
 
 	/**
@@ -464,25 +521,9 @@ public final class TreasureLootTableRegistry {
 	 * @return
 	 */
 	public static List<LootTableShell> getLootTableByRarity(ILootTableType key, IRarity rarity) {
-		Treasure.LOGGER.debug("table type -> {}", key);
-
-		// get all the tables from the datapacks
-		final List<LootTableShell> datapackTables = getDatapackLootTablesByTypeRarity(key, rarity);
-		
-		// get all loot tables by column key
-		final List<LootTableShell> tables = getLootTablesByTypeRarity(key, rarity);
-		
-		List<LootTableShell> result = new ArrayList<>();
-		// compare datapack tables to master tables. if datapack table name == master table name, use the datapack table.
-		if (!tables.isEmpty() && !datapackTables.isEmpty()) {
-			result = tables.stream().filter(t -> !datapackTables.stream().anyMatch(t2 -> t.getResourceLocation().equals(t2.getResourceLocation())))
-            .collect(Collectors.toList());
-		} else if (datapackTables.isEmpty()) {
-			result.addAll(tables);
-		}		
-		result.addAll(datapackTables);
-		
-		return result;
+		// the datapack tables merged over the master tables are precomputed when the snapshot is published
+		List<LootTableShell> tables = registry.mergedTable.get(key, rarity);
+		return tables == null ? Collections.emptyList() : tables;
 	}
 	
 	/**
@@ -492,19 +533,13 @@ public final class TreasureLootTableRegistry {
 	 * @return
 	 */
 	public static List<LootTableShell> getDatapackLootTablesByTypeRarity(ILootTableType type, IRarity rarity) {
-		List<LootTableShell> datapackTables = DATAPACK_TABLE.get(type, rarity);
-		if (datapackTables == null) {
-			datapackTables =  new ArrayList<>();
-		}
-		return datapackTables;
+		List<LootTableShell> datapackTables = registry.datapackTable.get(type, rarity);
+		return datapackTables == null ? Collections.emptyList() : datapackTables;
 	}
 	
 	public static List<LootTableShell> getLootTablesByTypeRarity(ILootTableType type, IRarity rarity) {
-		List<LootTableShell> datapackTables = MASTER_TABLE.get(type, rarity);
-		if (datapackTables == null) {
-			datapackTables =  new ArrayList<>();
-		}
-		return datapackTables;
+		List<LootTableShell> tables = registry.table.get(type, rarity);
+		return tables == null ? Collections.emptyList() : tables;
 	}
 	
 	/**
@@ -514,9 +549,10 @@ public final class TreasureLootTableRegistry {
 	 * @return
 	 */
 	public static Optional<LootTableShell> getLootTableByResourceLocation(ILootTableType key, ResourceLocation location) {
-		LootTableShell lootTableShell = DATAPACK_MAP.get(location);
+		Snapshot snapshot = registry;
+		LootTableShell lootTableShell = snapshot.datapackMap.get(location);
 		if (lootTableShell == null) {
-			lootTableShell = MASTER_MAP.get(location);
+			lootTableShell = snapshot.map.get(location);
 		}
 		return Optional.ofNullable(lootTableShell);
 	}
@@ -529,6 +565,14 @@ public final class TreasureLootTableRegistry {
 		return REGISTERED_MODS;
 	}
 
+	/**
+	 * 
+	 * @return the parse timings of the most recent load, slowest first
+	 */
+	public static List<ParseTiming> getLastParseTimings() {
+		return lastParseTimings;
+	}
+
 	public static Path getWorldSaveFolder() {
 		return TreasureLootTableRegistry.worldSaveFolder;
 	}
@@ -547,4 +591,227 @@ public final class TreasureLootTableRegistry {
 		Optional<IRarity> rarity = TreasureApi.getRarity(lootTableShell.getRarity().toUpperCase());
 		return rarity.isPresent() ? rarity.get() : defaultRarity;
 	}
-}
\ No newline at end of file
+
+	/*
+	 * an immutable view of all the registered loot tables.
+	 */
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(ImmutableTable.of(), ImmutableMap.of(), ImmutableTable.of(), ImmutableMap.of());
+
+		final Table<ILootTableType, IRarity, List<LootTableShell>> table;
+		final Map<ResourceLocation, LootTableShell> map;
+		final Table<ILootTableType, IRarity, List<LootTableShell>> datapackTable;
+		final Map<ResourceLocation, LootTableShell> datapackMap;
+		// the master tables with the datapack tables merged over them, per type and rarity
+		final Table<ILootTableType, IRarity, List<LootTableShell>> mergedTable;
+
+		Snapshot(Table<ILootTableType, IRarity, List<LootTableShell>> table, Map<ResourceLocation, LootTableShell> map,
+				Table<ILootTableType, IRarity, List<LootTableShell>> datapackTable, Map<ResourceLocation, LootTableShell> datapackMap) {
+			this.table = table;
+			this.map = map;
+			this.datapackTable = datapackTable;
+			this.datapackMap = datapackMap;
+			this.mergedTable = merge(table, datapackTable);
+		}
+
+		/*
+		 * if a datapack table has the same resource location as a master table, the datapack table is used.
+		 * the master tables come first, followed by the datapack tables.
+		 */
+		private static Table<ILootTableType, IRarity, List<LootTableShell>> merge(Table<ILootTableType, IRarity, List<LootTableShell>> table, 
+				Table<ILootTableType, IRarity, List<LootTableShell>> datapackTable) {
+			ImmutableTable.Builder<ILootTableType, IRarity, List<LootTableShell>> builder = ImmutableTable.builder();
+			table.cellSet().forEach(cell -> {
+				List<LootTableShell> datapackTables = datapackTable.get(cell.getRowKey(), cell.getColumnKey());
+				if (datapackTables == null || datapackTables.isEmpty()) {
+					builder.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+					return;
+				}
+				Set<ResourceLocation> overridden = new HashSet<>();
+				datapackTables.forEach(shell -> overridden.add(shell.getResourceLocation()));
+				ImmutableList.Builder<LootTableShell> merged = ImmutableList.builder();
+				cell.getValue().stream().filter(shell -> !overridden.contains(shell.getResourceLocation())).forEach(merged::add);
+				merged.addAll(datapackTables);
+				builder.put(cell.getRowKey(), cell.getColumnKey(), merged.build());
+			});
+			datapackTable.cellSet().forEach(cell -> {
+				if (!table.contains(cell.getRowKey(), cell.getColumnKey())) {
+					builder.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+				}
+			});
+			return builder.build();
+		}
+	}
+
+	/*
+	 * a mutable copy of a snapshot used while registering.
+	 */
+	private static final class Builder {
+		final Table<ILootTableType, IRarity, List<LootTableShell>> table;
+		final Map<ResourceLocation, LootTableShell> map;
+		final Table<ILootTableType, IRarity, List<LootTableShell>> datapackTable;
+		final Map<ResourceLocation, LootTableShell> datapackMap;
+
+		Builder(Snapshot snapshot) {
+			table = copy(snapshot.table);
+			map = new HashMap<>(snapshot.map);
+			datapackTable = copy(snapshot.datapackTable);
+			datapackMap = new HashMap<>(snapshot.datapackMap);
+		}
+
+		Builder clearDatapacks() {
+			datapackTable.clear();
+			datapackMap.clear();
+			return this;
+		}
+
+		Snapshot build() {
+			return new Snapshot(freeze(table), ImmutableMap.copyOf(map), freeze(datapackTable), ImmutableMap.copyOf(datapackMap));
+		}
+
+		/*
+		 * adds the shell to the cell, replacing any shell with the same resource location
+		 */
+		static void put(Table<ILootTableType, IRarity, List<LootTableShell>> table, ILootTableType type, IRarity rarity, LootTableShell shell) {
+			List<LootTableShell> shells = table.get(type, rarity);
+			if (shells == null) {
+				shells = new ArrayList<>();
+				table.put(type, rarity, shells);
+			}
+			shells.removeIf(s -> s.getResourceLocation().equals(shell.getResourceLocation()));
+			shells.add(shell);
+		}
+
+		private static Table<ILootTableType, IRarity, List<LootTableShell>> copy(Table<ILootTableType, IRarity, List<LootTableShell>> source) {
+			Table<ILootTableType, IRarity, List<LootTableShell>> table = HashBasedTable.create();
+			source.cellSet().forEach(cell -> table.put(cell.getRowKey(), cell.getColumnKey(), new ArrayList<>(cell.getValue())));
+			return table;
+		}
+
+		private static Table<ILootTableType, IRarity, List<LootTableShell>> freeze(Table<ILootTableType, IRarity, List<LootTableShell>> source) {
+			ImmutableTable.Builder<ILootTableType, IRarity, List<LootTableShell>> builder = ImmutableTable.builder();
+			source.cellSet().forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), ImmutableList.copyOf(cell.getValue())));
+			return builder.build();
+		}
+	}
+
+	/*
+	 * the gson serializer for loot tables. held lazily as the vanilla loot deserializers require
+	 * the game registries, which the registry itself (ie the lookups) does not.
+	 */
+	private static final class GsonHolder {
+		static final Gson INSTANCE = Deserializers.createLootTableSerializer().create();
+	}
+
+	/**
+	 * A set of loot table registrations that is applied to the current registry and
+	 * published once, so that registering n tables costs a single snapshot rebuild.
+	 */
+	public static final class Batch {
+		private final List<BatchEntry> entries = new ArrayList<>();
+
+		private Batch() {}
+
+		public Batch registerLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+			entries.add(new BatchEntry(false, key, path, shell));
+			return this;
+		}
+
+		public Batch registerDatapacksLootTable(ILootTableType key, Path path, Optional<LootTableShell> shell) {
+			entries.add(new BatchEntry(true, key, path, shell));
+			return this;
+		}
+
+		/**
+		 * Applies all the registrations to the latest registry and publishes it.
+		 */
+		public void publish() {
+			if (entries.isEmpty()) {
+				return;
+			}
+			synchronized (TreasureLootTableRegistry.class) {
+				Builder builder = new Builder(registry);
+				for (BatchEntry entry : entries) {
+					if (entry.datapack) {
+						TreasureLootTableRegistry.registerDatapacksLootTable(builder, entry.key, entry.path, entry.shell);
+					}
+					else {
+						TreasureLootTableRegistry.registerLootTable(builder, entry.key, entry.path, entry.shell);
+					}
+				}
+				setRegistry(builder.build());
+			}
+			entries.clear();
+		}
+	}
+
+	/*
+	 *
+	 */
+	private static final class BatchEntry {
+		final boolean datapack;
+		final ILootTableType key;
+		final Path path;
+		final Optional<LootTableShell> shell;
+
+		BatchEntry(boolean datapack, ILootTableType key, Path path, Optional<LootTableShell> shell) {
+			this.datapack = datapack;
+			this.key = key;
+			this.path = path;
+			this.shell = shell;
+		}
+	}
+
+	/*
+	 * 
+	 */
+	private static final class ParsedShell {
+		final ILootTableType type;
+		final Path path;
+		final LootTableShell shell;
+
+		ParsedShell(ILootTableType type, Path path, LootTableShell shell) {
+			this.type = type;
+			this.path = path;
+			this.shell = shell;
+		}
+	}
+
+	/**
+	 * The time taken to parse a single loot table file.
+	 */
+	public static final class ParseTiming {
+		private final Path archive;
+		private final Path path;
+		private final int size;
+		private final long nanos;
+
+		public ParseTiming(Path archive, Path path, int size, long nanos) {
+			this.archive = archive;
+			this.path = path;
+			this.size = size;
+			this.nanos = nanos;
+		}
+
+		public Path getArchive() {
+			return archive;
+		}
+
+		public Path getPath() {
+			return path;
+		}
+
+		public int getSize() {
+			return size;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s!%s (%d bytes) in %.3f ms", archive.getFileName(), path, size, nanos / 1_000_000.0);
+		}
+	}
+}
@@ -30,11 +30,15 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -42,6 +46,9 @@ import java.util.zip.ZipFile;
 import org.apache.commons.io.IOUtils;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Table;
@@ -54,17 +61,23 @@ import mod.gottsch.neo.gottschcore.world.gen.structure.GottschTemplate;
 import mod.gottsch.neo.gottschcore.world.gen.structure.StructureMarkers;
 import mod.gottsch.forge.treasure2.Treasure;
 import mod.gottsch.forge.treasure2.api.TreasureApi;
+import mod.gottsch.forge.treasure2.core.biome.BiomeFilter;
 import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.config.StructureConfiguration.StructMeta;
+import mod.gottsch.forge.treasure2.core.registry.support.ArchiveScanner;
+import mod.gottsch.forge.treasure2.core.registry.support.ArchiveScanner.ArchiveEntry;
+import mod.gottsch.forge.treasure2.core.registry.support.ParallelLoader;
 import mod.gottsch.forge.treasure2.core.structure.IStructureCategory;
 import mod.gottsch.forge.treasure2.core.structure.IStructureType;
-import mod.gottsch.forge.treasure2.core.structure.StructureCategory;
 import mod.gottsch.forge.treasure2.core.structure.StructureType;
 import mod.gottsch.forge.treasure2.core.structure.TemplateHolder;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
+import mod.gottsch.forge.treasure2.core.util.TreasureAccessors;
+import net.minecraft.core.Holder;
 import net.minecraft.core.HolderGetter;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
@@ -72,10 +85,8 @@ import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.fml.ModList;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 import net.minecraftforge.registries.ForgeRegistries;
 
 
@@ -91,28 +102,15 @@ public class TreasureTemplateRegistry {
 	private static final Map<String, Boolean> LOADED_MODS;
 	protected static final Gson GSON_INSTANCE;
 
-	/*
-	MC 1.20.1: net/minecraft/world/level/levelgen/structure/templatesystem/StructureTemplateManager.blockLookup
-	Name: k => f_243724_ => blockLookup
-	Side: BOTH
-	AT: public net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager f_243724_ # blockLookup
-	Type: net/minecraft/core/HolderGetter
-    */
-	private static final String HOLDER_GETTER_SRG_NAME = "f_243724_";
+	private static final String TEMPLATE_EXTENSION = ".nbt";
 
 	private static HolderGetter<Block> blockLookup;
 	
 	/*
-	 * All structure templates by resource location.
-	 */
-	private final static Map<ResourceLocation, TemplateHolder> MAP = new HashMap<>();
-	private final static Map<ResourceLocation, TemplateHolder> DATAPACK_MAP = new HashMap<>();
-
-	/*
-	 * All structure templates by category and type.
+	 * The published, immutable registry of all structure templates.
+	 * Loading builds a new snapshot and swaps it in when complete.
 	 */
-	private final static Table<IStructureCategory, IStructureType, List<TemplateHolder>> TABLE = HashBasedTable.create();
-	private final static Table<IStructureCategory, IStructureType, List<TemplateHolder>> DATAPACK_TABLE = HashBasedTable.create();
+	private static volatile Snapshot registry = Snapshot.EMPTY;
 
 
 	public static class AccessKey {
@@ -122,8 +120,31 @@ public class TreasureTemplateRegistry {
 			this.category = category;
 			this.type = type;
 		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(category, type);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof AccessKey other)) {
+				return false;
+			}
+			return Objects.equals(category, other.category) && Objects.equals(type, other.type);
+		}
 	}
 
+	/*
+	 * The memoized template candidates by category, type and biome.
+	 * Only valid for the snapshot, structure config and access lists it was built against - 
+	 * replaced wholesale when any of them change.
+	 */
+	private static volatile CandidateIndex candidates = CandidateIndex.INVALID;
+
 	/*
 	 * Whitelist Guava Table by Type, Biome (resource location) -> TemplateHolder list.
 	 */
@@ -164,14 +185,6 @@ public class TreasureTemplateRegistry {
 
 		GSON_INSTANCE = new GsonBuilder().create();
 
-		// initialize table
-		for (IStructureCategory category : StructureCategory.values()) {
-			for (IStructureType type : StructureType.values()) {
-				TABLE.put(category, type, new ArrayList<>(5));
-				DATAPACK_TABLE.put(category, type, new ArrayList<>(3));
-			}
-		}
-
 		// setup standard list of markers
 		markerMap = Maps.newHashMapWithExpectedSize(10);
 		markerMap.put(StructureMarkers.CHEST, Blocks.CHEST);
@@ -211,19 +224,14 @@ public class TreasureTemplateRegistry {
 	 * 
 	 */
 	public void clear() {
-		TABLE.clear();
-		DATAPACK_TABLE.clear();
-		MAP.clear();
-		DATAPACK_MAP.clear();
-		
+		registry = Snapshot.EMPTY;
 	}
 
 	/**
 	 * 
 	 */
-	public static void clearDatapacks() {
-		DATAPACK_MAP.clear();
-		DATAPACK_TABLE.clear();
+	public static synchronized void clearDatapacks() {
+		registry = new Builder(registry).clearDatapacks().build();
 	}
 	
 	/**
@@ -232,6 +240,14 @@ public class TreasureTemplateRegistry {
 	public static void clearAccesslists() {
 		WHITELIST_TABLE.clear();
 		BLACKLIST_TABLE.clear();
+		invalidateCandidates();
+	}
+
+	/**
+	 * Discards the memoized template candidates, ex. when the biome tags are reloaded.
+	 */
+	public static void invalidateCandidates() {
+		candidates = CandidateIndex.INVALID;
 	}
 	
 	/**
@@ -248,41 +264,59 @@ public class TreasureTemplateRegistry {
 	}
 
 	/**
-	 * 
+	 * Enumerates the jar once, decodes all the templates in parallel
+	 * and then publishes them in a single registry update.
 	 * @param jarPath
 	 */
 	private static void registerFromJar(Path jarPath) {
-		List<Path> lootTablePaths;
 		try {
-			// get all the paths in folder
-			lootTablePaths = ModUtil.getPathsFromResourceJAR(jarPath, JAR_TEMPLATES_ROOT);
-
-			for (Path path : lootTablePaths) {
-				// ensure each file ends with .nbt
-				if (path.getFileName().toString().endsWith(".nbt")) {
-					Treasure.LOGGER.debug("structure path -> {}", path);
-					// load the shell from the jar
-					Optional<GottschTemplate> template = loadFromJar(path, getMarkerScanList(), getReplacementMap()); // ie readTemplate
-					// register
-					if (template.isPresent()) {
-						Treasure.LOGGER.debug("registering from jar -> {}", path);
-						registerTemplate(path, template.get());
-					}
+			// get all the template entries in the jar
+			List<ArchiveEntry> entries = ArchiveScanner.scan(jarPath, JAR_TEMPLATES_ROOT, TEMPLATE_EXTENSION);
+			List<LoadedTemplate> templates = loadTemplates(entries, getMarkerScanList(), getReplacementMap());
+
+			synchronized (TreasureTemplateRegistry.class) {
+				Builder builder = new Builder(registry);
+				for (LoadedTemplate template : templates) {
+					Treasure.LOGGER.debug("registering from jar -> {}", template.path);
+					registerTemplate(builder, template.path, template.template);
 				}
+				registry = builder.build();
 			}
 		} catch (Exception e) {
 			Treasure.LOGGER.error("error: " , e);
-			e.printStackTrace();
 		}
-		//		});		
+	}
+
+	/**
+	 * Decodes and marker-scans the templates concurrently.
+	 * @param entries
+	 * @param markerBlocks
+	 * @param replacementBlocks
+	 * @return the successfully loaded templates, in entry order
+	 */
+	private static List<LoadedTemplate> loadTemplates(List<ArchiveEntry> entries, List<Block> markerBlocks, Map<BlockState, BlockState> replacementBlocks) {
+		long start = System.nanoTime();
+		List<LoadedTemplate> templates = ParallelLoader.map(entries, entry -> {
+			try (InputStream stream = entry.openStream()) {
+				return loadTemplateFromStream(stream, markerBlocks, replacementBlocks)
+						.map(template -> new LoadedTemplate(entry.getPath(), template));
+			}
+			catch(Exception e) {
+				Treasure.LOGGER.error("unable to load template -> {}", entry, e);
+				return Optional.empty();
+			}
+		});
+		Treasure.LOGGER.debug("loaded {} of {} templates in {} ms", templates.size(), entries.size(), (System.nanoTime() - start) / 1_000_000);
+		return templates;
 	}
 
 	/**
 	 * 
+	 * @param builder
 	 * @param path
 	 * @param template
 	 */
-	private static void registerTemplate(Path path, GottschTemplate template) {
+	private static void registerTemplate(Builder builder, Path path, GottschTemplate template) {
 		// extract the category
 
 		String categoryToken = path.getName(3).toString();
@@ -296,9 +330,9 @@ public class TreasureTemplateRegistry {
 		if (path.getNameCount() > 4) {
 			typeToken = path.getName(4).toString();
 			type = TreasureApi.getStructureType(typeToken);
-			if (type.isEmpty()) {
-				return;
-			}
+		}
+		if (type.isEmpty()) {
+			return;
 		}
 
 		// convert to resource location
@@ -307,9 +341,7 @@ public class TreasureTemplateRegistry {
 
 		// setup the template holder
 		TemplateHolder holder = new TemplateHolder()
-				//				.setMetaLocation(metaResourceLocation)
 				.setLocation(resourceLocation)
-				//				.setDecayRuleSetLocation(decayRuleSetResourceLocation)
 				.setTemplate(template);				
 
 		if (path.getNameCount() > 5) {
@@ -319,16 +351,10 @@ public class TreasureTemplateRegistry {
 			}
 		}
 
-		// add to map
-		MAP.put(resourceLocation, holder);
-
-		Treasure.LOGGER.debug("adding template to table with category -> {}, type -> {}", category.get(), type.get());
-		// add to table
-		if (!TABLE.contains(category.get(), type.get())) {
-			TABLE.put(category.get(), type.get(), new ArrayList<>());
-		}
-		TABLE.get(category.get(), type.get()).add(holder);
-		Treasure.LOGGER.debug("size of list for -> {}, {} -> {}", category.get(), type.get(), TABLE.get(category.get(), type.get()).size());
+		// add to map and table, replacing any previous registration of the same location
+		builder.templates.put(resourceLocation, holder);
+		Builder.put(builder.table, category.get(), type.get(), holder);
+		Treasure.LOGGER.debug("size of list for -> {}, {} -> {}", category.get(), type.get(), builder.table.get(category.get(), type.get()).size());
 	}
 
 	/**
@@ -400,7 +426,6 @@ public class TreasureTemplateRegistry {
 		clearDatapacks();
 		clearAccesslists();
 		if (!event.getLevel().isClientSide()) {
-			TreasureApi.registerTemplates(Treasure.MODID);
 			// regiser templates
 			TreasureApi.registerTemplates(Treasure.MODID);
 			Treasure.LOGGER.debug("template registry world load event...");
@@ -412,7 +437,7 @@ public class TreasureTemplateRegistry {
 	@SuppressWarnings("unchecked")
 	private static void register(ServerLevel level) {
 		Treasure.LOGGER.debug("attempting to get HolderGetter from StructureTemplateManager...");
-		Object obj = ObfuscationReflectionHelper.getPrivateValue(StructureTemplateManager.class, level.getServer().getStructureManager(), HOLDER_GETTER_SRG_NAME);
+		Object obj = TreasureAccessors.getBlockLookup(level.getServer().getStructureManager()).orElse(null);
 		if (obj instanceof HolderGetter) {
 			Treasure.LOGGER.debug("obj -> {}", obj);
 			blockLookup = ((HolderGetter<Block>) obj);
@@ -448,73 +473,55 @@ public class TreasureTemplateRegistry {
 
 	/**
 	 * Only load once - not per  registered mod.
+	 * The flat datapacks folder and each datapack .zip are enumerated once,
+	 * all the templates are decoded in parallel and then published in a single registry update.
 	 * @param markerBlocks
 	 * @param replacementBlocks
 	 */
 	public static void loadDataPacks(List<Block> markerBlocks, Map<BlockState, BlockState> replacementBlocks) {
-		String worldSaveFolderPathName = getWorldSaveFolder().toString();
-
-		StructureCategory.getNames().forEach(category -> {
-			List<Path> templatePaths;
-			// build the path
-			Path folderPath = Paths.get(worldSaveFolderPathName, DATAPACKS_TEMPLATES_ROOT, category.toLowerCase());
-
-			try {
-				templatePaths = ModUtil.getPathsFromFlatDatapacks(folderPath);
-
-				for (Path path : templatePaths) {
-					Treasure.LOGGER.debug("template path from fs -> {}", path);
-					// load the shell from the jar
-					Optional<GottschTemplate> shell = loadFromFileSystem(path, markerBlocks, replacementBlocks);
-					// extra step - strip the beginning path from the path, so it is just data/treasure2/...
-					String p = path.toString().replace(worldSaveFolderPathName, "");
-					// register
-					registerDatapacksTemplate(Paths.get(p), shell.get());
-				}
-			} catch(NoSuchFileException e) {
-				// silently sallow exception
-			} catch (Exception e) {
-				Treasure.LOGGER.error("An error occurred attempting to register a loot table from the world save datapacks folder: ", e);
-			}			
-		});
+		Path worldSaveFolder = getWorldSaveFolder();
+		List<ArchiveEntry> entries = new ArrayList<>();
+
+		// flat datapacks in the world save folder
+		try {
+			entries.addAll(ArchiveScanner.scan(worldSaveFolder, DATAPACKS_TEMPLATES_ROOT, TEMPLATE_EXTENSION));
+		} catch (Exception e) {
+			Treasure.LOGGER.error("An error occurred attempting to register a template from the world save datapacks folder: ", e);
+		}
 
 		/*
 		 *  load/register datapacks .zip files from world save folder
 		 */
 		Treasure.LOGGER.debug("loading datapack template files ...");
 		// get all .zip files in the folder (non-recursive)
-		try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(worldSaveFolderPathName))) {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldSaveFolder)) {
 			for (Path jarPath : stream) {
 				Treasure.LOGGER.debug("datapack path -> {}", jarPath);
-				if (Files.isRegularFile(jarPath, new LinkOption[] {})) {
-					if (jarPath.getFileName().toString().endsWith(".zip")) {
-						// process this zip file
-						Treasure.LOGGER.debug("datapack file -> {}", jarPath.toString());
-						try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
-							StructureCategory.getNames().forEach(category -> {
-								List<Path> templatePaths;				
-								try {
-									templatePaths = ModUtil.getPathsFromResourceJAR(jarPath, DATAPACKS_TEMPLATES_ROOT + category.toLowerCase());
-
-									for (Path path : templatePaths) {
-										Treasure.LOGGER.debug("datapack template path -> {}", path);
-										// load the shell from the jar
-										Optional<GottschTemplate> shell = loadFromZip(zipFile, path, markerBlocks, replacementBlocks);
-										// register
-										registerDatapacksTemplate(path, shell.get());
-									}
-								} catch (Exception e) {
-									// minimal message
-									Treasure.LOGGER.warn("warning: unable to load datapack -> {}", jarPath + "/" + DATAPACKS_TEMPLATES_ROOT + category.toLowerCase());
-								}
-							});
-						}
+				if (Files.isRegularFile(jarPath, new LinkOption[] {}) && jarPath.getFileName().toString().endsWith(".zip")) {
+					// process this zip file
+					Treasure.LOGGER.debug("datapack file -> {}", jarPath.toString());
+					try {
+						entries.addAll(ArchiveScanner.scan(jarPath, DATAPACKS_TEMPLATES_ROOT, TEMPLATE_EXTENSION));
+					} catch (Exception e) {
+						// minimal message
+						Treasure.LOGGER.warn("warning: unable to load datapack -> {}", jarPath + "/" + DATAPACKS_TEMPLATES_ROOT);
 					}
 				}
 			}
+		} catch(NoSuchFileException e) {
+			// silently sallow exception
 		} catch(Exception e) {
 			Treasure.LOGGER.error("error: unable to load datapack:", e);
 		}
+
+		List<LoadedTemplate> templates = loadTemplates(entries, markerBlocks, replacementBlocks);
+		synchronized (TreasureTemplateRegistry.class) {
+			Builder builder = new Builder(registry);
+			for (LoadedTemplate template : templates) {
+				registerDatapacksTemplate(builder, template.path, template.template);
+			}
+			registry = builder.build();
+		}
 	}
 
 	/**
@@ -566,10 +573,11 @@ public class TreasureTemplateRegistry {
 
 	/**
 	 * 
+	 * @param builder
 	 * @param path
 	 * @param template
 	 */
-	private static void registerDatapacksTemplate(Path path, GottschTemplate template) {
+	private static void registerDatapacksTemplate(Builder builder, Path path, GottschTemplate template) {
 		Treasure.LOGGER.warn("attempting to register from datapack -> {}", path);
 
 		// extract the category
@@ -585,10 +593,10 @@ public class TreasureTemplateRegistry {
 		if (path.getNameCount() > 4) {
 			typeToken = path.getName(4).toString();
 			type = TreasureApi.getStructureType(typeToken);
-			if (type.isEmpty()) {
-				Treasure.LOGGER.warn("structure type -> '{}' is not registgered", typeToken);
-				return;
-			}
+		}
+		if (type.isEmpty()) {
+			Treasure.LOGGER.warn("structure type -> '{}' is not registgered", typeToken);
+			return;
 		}
 
 		// convert to resource location
@@ -607,35 +615,25 @@ public class TreasureTemplateRegistry {
 		}
 
 		// add to map - will replace previous existing
-		DATAPACK_MAP.put(resourceLocation, holder);
+		builder.datapackTemplates.put(resourceLocation, holder);
 
-		// add to table
-		if (!DATAPACK_TABLE.contains(category.get(), type.get())) {
-			DATAPACK_TABLE.put(category.get(), type.get(),new ArrayList<>());
-		}
-		
-		// compare resource location to all other resource locations 
+		// add to table, replacing the element if it matches the new holder location
 		// TODO see loot table DATAPACK add, for multiple datapacks.
-		List<TemplateHolder> holders = DATAPACK_TABLE.get(category.get(), type.get());
-		Optional<TemplateHolder> foundTemplate = holders.stream().filter(h -> h.getLocation().equals(resourceLocation)).findFirst();
-		// remove element if it matches the new holder location
-		if (foundTemplate.isPresent()) {
-			holders.remove(foundTemplate.get());
-		}
-		holders.add(holder);
+		Builder.put(builder.datapackTable, category.get(), type.get(), holder);
 		Treasure.LOGGER.debug("tabling datapack template -> [{}, {}] -> {}", category.get(), type.get(), holder.getLocation().toString());
 	}
 
 	public static Collection<TemplateHolder> getTemplate(StructureType structureType) {
+		Snapshot snapshot = registry;
 		List<TemplateHolder> templateHolders = new ArrayList<>();
 		// get all built-in templates
-		TABLE.column(structureType).forEach((key, list) -> {
+		snapshot.table.column(structureType).forEach((key, list) -> {
 			templateHolders.addAll(list);
 		});
 		
 		// get all datapack templates
 		List<TemplateHolder> datapackTemplateHolders = new ArrayList<>();
-		DATAPACK_TABLE.column(structureType).forEach((key, list) -> {
+		snapshot.datapackTable.column(structureType).forEach((key, list) -> {
 			datapackTemplateHolders.addAll(list);		
 		});
 
@@ -658,9 +656,10 @@ public class TreasureTemplateRegistry {
 	 * @return
 	 */
 	public static Optional<TemplateHolder> getTemplate(ResourceLocation name) {
-		TemplateHolder templateHolder = DATAPACK_MAP.get(name);
+		Snapshot snapshot = registry;
+		TemplateHolder templateHolder = snapshot.datapackTemplates.get(name);
 		if (templateHolder == null) {
-			templateHolder = MAP.get(name);
+			templateHolder = snapshot.templates.get(name);
 		}
 		return Optional.ofNullable(templateHolder);
 	}
@@ -673,26 +672,15 @@ public class TreasureTemplateRegistry {
 	 * @return
 	 */
 	public static List<TemplateHolder> getTemplate(IStructureCategory category, IStructureType type) {
-		final List<TemplateHolder> templateHolders = TABLE.get(category, type);
-		final List<TemplateHolder> datapackTemplateHolders = DATAPACK_TABLE.get(category, type);
-
-		// if datapack holder exists with same name as built-in, replace the built-in.
-		if (templateHolders != null && datapackTemplateHolders != null 
-				&& !datapackTemplateHolders.isEmpty()) {
-			datapackTemplateHolders.stream().forEach(holder -> {
-				Optional<TemplateHolder> foundHolder = templateHolders.stream().filter(h -> h.getLocation().equals(holder.getLocation())).findFirst();
-				if (foundHolder.isPresent()) {
-					templateHolders.remove(foundHolder.get());
-				}
-				templateHolders.add(holder);
-			});
-		}		
-		Treasure.LOGGER.trace("selected template holders -> {} ", templateHolders);
+		return getTemplate(registry, category, type);
+	}
 
-		if (templateHolders == null) {
-			return new ArrayList<>();
-		}
-		return templateHolders;
+	/*
+	 * the built-in templates with the datapack templates merged over them, precomputed when the snapshot is published.
+	 */
+	private static List<TemplateHolder> getTemplate(Snapshot snapshot, IStructureCategory category, IStructureType type) {
+		List<TemplateHolder> templateHolders = snapshot.mergedTable.get(category, type);
+		return templateHolders == null ? Collections.emptyList() : templateHolders;
 	}
 
 	/**
@@ -700,29 +688,39 @@ public class TreasureTemplateRegistry {
 	 * @param category
 	 * @param type
 	 * @param biome
-	 * @return
+	 * @return an immutable list of the candidate templates
 	 */
 	public static List<TemplateHolder> getTemplate(IStructureCategory category, IStructureType type, ResourceLocation biome) {
+		CandidateIndex index = getCandidateIndex();
+		CandidateKey key = new CandidateKey(category, type, biome);
+		List<TemplateHolder> templateHolders = index.byLocation.get(key);
+		if (templateHolders == null) {
+			templateHolders = List.copyOf(filterByAccesslists(index.getCell(category, type), index.metaMap, category, type, biome));
+			index.byLocation.putIfAbsent(key, templateHolders);
+		}
+		return templateHolders;
+	}
 
+	private static List<TemplateHolder> filterByAccesslists(List<TemplateHolder> templateHolders, Map<ResourceLocation, StructMeta> metaMap,
+			IStructureCategory category, IStructureType type, ResourceLocation biome) {
 		AccessKey key = new AccessKey(category, type);
 		
 		List<TemplateHolder> blacklistHolders = BLACKLIST_TABLE.get(key, biome);
-		
-		// grab all templates by category + type
-		List<TemplateHolder> templateHolders = getTemplate(category, type);
 
 		// filter out any in the black list
-		if (templateHolders != null && !templateHolders.isEmpty() && blacklistHolders != null && !blacklistHolders.isEmpty()) {
-					templateHolders = templateHolders.stream()
-					.filter(h -> blacklistHolders.stream().noneMatch(b -> b.getLocation().equals(h.getLocation())))
+		if (!templateHolders.isEmpty() && blacklistHolders != null && !blacklistHolders.isEmpty()) {
+			Set<ResourceLocation> blacklisted = new HashSet<>();
+			blacklistHolders.forEach(b -> blacklisted.add(b.getLocation()));
+			templateHolders = templateHolders.stream()
+					.filter(h -> !blacklisted.contains(h.getLocation()))
 					.collect(Collectors.toList());			
 		}
 		
 		// filter if the template has a whitelist and this biome is not included
-		if (templateHolders != null && !templateHolders.isEmpty()) {
+		if (!templateHolders.isEmpty()) {
 			templateHolders = templateHolders.stream()
 				.filter(h -> {
-				StructMeta meta = Config.structConfigMetaMap.get(h.getLocation());
+				StructMeta meta = metaMap.get(h.getLocation());
 				if (meta != null) {
 					if ((meta.getBiomeWhitelist() != null && !meta.getBiomeWhitelist().isEmpty())) {
 						if (!meta.getBiomeWhitelist().contains(biome.toString())) {
@@ -736,16 +734,69 @@ public class TreasureTemplateRegistry {
 			.collect(Collectors.toList());	
 		}
 		
-		if (templateHolders == null || templateHolders.isEmpty()) {
+		if (templateHolders.isEmpty()) {
 			Treasure.LOGGER.debug("could not find template holders for category -> {}, type -> {}", category, type);
 		}
+		return templateHolders;
+	}
 
+	/**
+	 * Filters using the compiled biome white/black lists of each template's StructMeta.
+	 * @param category
+	 * @param type
+	 * @param biome
+	 * @return
+	 */
+	public static List<TemplateHolder> getTemplate(IStructureCategory category, IStructureType type, Holder<Biome> biome) {
+		Optional<ResourceKey<Biome>> biomeKey = biome.unwrapKey();
+		CandidateIndex index = getCandidateIndex();
+		if (biomeKey.isEmpty()) {
+			// an unregistered biome can't be keyed
+			return filterByBiomeFilter(index.getCell(category, type), index.metaMap, category, type, biome);
+		}
+		CandidateKey key = new CandidateKey(category, type, biomeKey.get().location());
+		List<TemplateHolder> templateHolders = index.byBiome.get(key);
 		if (templateHolders == null) {
-			templateHolders = new ArrayList<>();
+			templateHolders = List.copyOf(filterByBiomeFilter(index.getCell(category, type), index.metaMap, category, type, biome));
+			index.byBiome.putIfAbsent(key, templateHolders);
 		}
 		return templateHolders;
 	}
 
+	private static List<TemplateHolder> filterByBiomeFilter(List<TemplateHolder> templateHolders, Map<ResourceLocation, StructMeta> metaMap,
+			IStructureCategory category, IStructureType type, Holder<Biome> biome) {
+		List<TemplateHolder> result = new ArrayList<>(templateHolders.size());
+		for (TemplateHolder holder : templateHolders) {
+			StructMeta meta = metaMap.get(holder.getLocation());
+			if (meta != null) {
+				BiomeFilter filter = meta.getBiomeFilter();
+				if (filter.isBlackListed(biome) || (filter.hasWhiteList() && !filter.isWhiteListed(biome))) {
+					continue;
+				}
+			}
+			result.add(holder);
+		}
+
+		if (result.isEmpty()) {
+			Treasure.LOGGER.debug("could not find template holders for category -> {}, type -> {}", category, type);
+		}
+		return result;
+	}
+
+	/*
+	 * returns the current candidate index, replacing it if the registry or structure config has changed.
+	 */
+	private static CandidateIndex getCandidateIndex() {
+		CandidateIndex index = candidates;
+		Snapshot snapshot = registry;
+		Map<ResourceLocation, StructMeta> metaMap = Config.structConfigMetaMap;
+		if (index.snapshot != snapshot || index.metaMap != metaMap) {
+			index = new CandidateIndex(snapshot, metaMap);
+			candidates = index;
+		}
+		return index;
+	}
+
 	/**
 	 * @param structMetaList
 	 */
@@ -809,13 +860,15 @@ public class TreasureTemplateRegistry {
 				});				
 			}
 		});
+		invalidateCandidates();
 	}
 
 	private static Optional<TemplateHolder> getHolderByResourceLocation(ResourceLocation templateLocation) {
+		Snapshot snapshot = registry;
 		// first check datapacks
-		TemplateHolder holder = DATAPACK_MAP.get(templateLocation);
+		TemplateHolder holder = snapshot.datapackTemplates.get(templateLocation);
 		if (holder == null) {
-			holder = MAP.get(templateLocation);
+			holder = snapshot.templates.get(templateLocation);
 		}
 		return Optional.ofNullable(holder);
 	}
@@ -861,4 +914,178 @@ public class TreasureTemplateRegistry {
 		ICoords offsetCoords = template.findCoords(random, getMarkerMap().get(marker));
 		return offsetCoords;
 	}
+
+	/*
+	 * an immutable view of all the registered templates.
+	 */
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(ImmutableMap.of(), ImmutableTable.of(), ImmutableMap.of(), ImmutableTable.of());
+
+		final Map<ResourceLocation, TemplateHolder> templates;
+		final Table<IStructureCategory, IStructureType, List<TemplateHolder>> table;
+		final Map<ResourceLocation, TemplateHolder> datapackTemplates;
+		final Table<IStructureCategory, IStructureType, List<TemplateHolder>> datapackTable;
+		// the built-in templates with the datapack templates merged over them
+		final Table<IStructureCategory, IStructureType, List<TemplateHolder>> mergedTable;
+
+		Snapshot(Map<ResourceLocation, TemplateHolder> templates, Table<IStructureCategory, IStructureType, List<TemplateHolder>> table,
+				Map<ResourceLocation, TemplateHolder> datapackTemplates, Table<IStructureCategory, IStructureType, List<TemplateHolder>> datapackTable) {
+			this.templates = templates;
+			this.table = table;
+			this.datapackTemplates = datapackTemplates;
+			this.datapackTable = datapackTable;
+			this.mergedTable = merge(table, datapackTable);
+		}
+
+		/*
+		 * if a datapack holder exists with the same name as a built-in, it replaces the built-in.
+		 * category/type cells that only a datapack provides are carried over as is.
+		 */
+		private static Table<IStructureCategory, IStructureType, List<TemplateHolder>> merge(Table<IStructureCategory, IStructureType, List<TemplateHolder>> table,
+				Table<IStructureCategory, IStructureType, List<TemplateHolder>> datapackTable) {
+			ImmutableTable.Builder<IStructureCategory, IStructureType, List<TemplateHolder>> builder = ImmutableTable.builder();
+			table.cellSet().forEach(cell -> {
+				List<TemplateHolder> datapackHolders = datapackTable.get(cell.getRowKey(), cell.getColumnKey());
+				if (datapackHolders == null || datapackHolders.isEmpty()) {
+					builder.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+					return;
+				}
+				Set<ResourceLocation> replaced = new HashSet<>();
+				datapackHolders.forEach(holder -> replaced.add(holder.getLocation()));
+				ImmutableList.Builder<TemplateHolder> merged = ImmutableList.builder();
+				cell.getValue().stream().filter(holder -> !replaced.contains(holder.getLocation())).forEach(merged::add);
+				merged.addAll(datapackHolders);
+				builder.put(cell.getRowKey(), cell.getColumnKey(), merged.build());
+			});
+			datapackTable.cellSet().forEach(cell -> {
+				if (!table.contains(cell.getRowKey(), cell.getColumnKey())) {
+					builder.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue());
+				}
+			});
+			return builder.build();
+		}
+	}
+
+	/*
+	 * the memoized candidates for a single snapshot and structure config. the candidates are
+	 * always filtered from the snapshot's merged cells, which include the datapack-only cells,
+	 * and against the index's own structure config.
+	 */
+	private static final class CandidateIndex {
+		static final CandidateIndex INVALID = new CandidateIndex(null, null);
+
+		final Snapshot snapshot;
+		final Map<ResourceLocation, StructMeta> metaMap;
+		// filtered by the compiled biome filters
+		final Map<CandidateKey, List<TemplateHolder>> byBiome = new ConcurrentHashMap<>();
+		// filtered by the access lists
+		final Map<CandidateKey, List<TemplateHolder>> byLocation = new ConcurrentHashMap<>();
+
+		CandidateIndex(Snapshot snapshot, Map<ResourceLocation, StructMeta> metaMap) {
+			this.snapshot = snapshot;
+			this.metaMap = metaMap;
+		}
+
+		List<TemplateHolder> getCell(IStructureCategory category, IStructureType type) {
+			return getTemplate(snapshot, category, type);
+		}
+	}
+
+	/*
+	 * 
+	 */
+	private static final class CandidateKey {
+		final IStructureCategory category;
+		final IStructureType type;
+		final ResourceLocation biome;
+		final int hash;
+
+		CandidateKey(IStructureCategory category, IStructureType type, ResourceLocation biome) {
+			this.category = category;
+			this.type = type;
+			this.biome = biome;
+			this.hash = Objects.hash(category, type, biome);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CandidateKey other)) {
+				return false;
+			}
+			return category.equals(other.category) && type.equals(other.type) && biome.equals(other.biome);
+		}
+	}
+
+	/*
+	 * a mutable copy of a snapshot used while registering.
+	 */
+	private static final class Builder {
+		final Map<ResourceLocation, TemplateHolder> templates;
+		final Table<IStructureCategory, IStructureType, List<TemplateHolder>> table;
+		final Map<ResourceLocation, TemplateHolder> datapackTemplates;
+		final Table<IStructureCategory, IStructureType, List<TemplateHolder>> datapackTable;
+
+		Builder(Snapshot snapshot) {
+			templates = new HashMap<>(snapshot.templates);
+			table = copy(snapshot.table);
+			datapackTemplates = new HashMap<>(snapshot.datapackTemplates);
+			datapackTable = copy(snapshot.datapackTable);
+		}
+
+		Builder clearDatapacks() {
+			datapackTemplates.clear();
+			datapackTable.clear();
+			return this;
+		}
+
+		Snapshot build() {
+			return new Snapshot(ImmutableMap.copyOf(templates), freeze(table), ImmutableMap.copyOf(datapackTemplates), freeze(datapackTable));
+		}
+
+		/*
+		 * adds the holder to the cell, replacing any holder with the same location
+		 */
+		static void put(Table<IStructureCategory, IStructureType, List<TemplateHolder>> table, IStructureCategory category, IStructureType type, TemplateHolder holder) {
+			List<TemplateHolder> holders = table.get(category, type);
+			if (holders == null) {
+				holders = new ArrayList<>();
+				table.put(category, type, holders);
+			}
+			holders.removeIf(h -> h.getLocation().equals(holder.getLocation()));
+			holders.add(holder);
+		}
+
+		private static Table<IStructureCategory, IStructureType, List<TemplateHolder>> copy(Table<IStructureCategory, IStructureType, List<TemplateHolder>> source) {
+			Table<IStructureCategory, IStructureType, List<TemplateHolder>> table = HashBasedTable.create();
+			source.cellSet().forEach(cell -> table.put(cell.getRowKey(), cell.getColumnKey(), new ArrayList<>(cell.getValue())));
+			return table;
+		}
+
+		private static Table<IStructureCategory, IStructureType, List<TemplateHolder>> freeze(Table<IStructureCategory, IStructureType, List<TemplateHolder>> source) {
+			ImmutableTable.Builder<IStructureCategory, IStructureType, List<TemplateHolder>> builder = ImmutableTable.builder();
+			source.cellSet().forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), ImmutableList.copyOf(cell.getValue())));
+			return builder.build();
+		}
+	}
+
+	/*
+	 * 
+	 */
+	private static final class LoadedTemplate {
+		final Path path;
+		final GottschTemplate template;
+
+		LoadedTemplate(Path path, GottschTemplate template) {
+			this.path = path;
+			this.template = template;
+		}
+	}
 }
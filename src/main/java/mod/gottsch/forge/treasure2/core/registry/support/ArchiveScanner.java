@@ -0,0 +1,124 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.registry.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Enumerates the resources under a root folder of a jar, zip or directory in a single pass,
+ * reading each matching entry into memory so that decoding can happen off the archive handle.
+ * Returned paths are relative to the archive root, ie. data/treasure2/structures/...
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class ArchiveScanner {
+
+	private ArchiveScanner() {}
+
+	/**
+	 * 
+	 * @param archive a jar/zip file or a directory
+	 * @param root the folder within the archive, ie. data/treasure2/structures/
+	 * @param extension the file extension to include, ie. .nbt
+	 * @return the entries, sorted by path
+	 * @throws IOException
+	 */
+	public static List<ArchiveEntry> scan(Path archive, String root, String extension) throws IOException {
+		List<ArchiveEntry> entries = new ArrayList<>();
+		if (Files.isDirectory(archive)) {
+			Path folder = archive.resolve(root);
+			if (!Files.isDirectory(folder)) {
+				return entries;
+			}
+			try (Stream<Path> walk = Files.walk(folder)) {
+				for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+					if (file.getFileName().toString().endsWith(extension)) {
+						entries.add(new ArchiveEntry(archive, Paths.get(archive.relativize(file).toString()), Files.readAllBytes(file)));
+					}
+				}
+			}
+		}
+		else {
+			try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+				Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+				while (zipEntries.hasMoreElements()) {
+					ZipEntry zipEntry = zipEntries.nextElement();
+					String name = zipEntry.getName();
+					if (!zipEntry.isDirectory() && name.startsWith(root) && name.endsWith(extension)) {
+						try (InputStream stream = zipFile.getInputStream(zipEntry)) {
+							entries.add(new ArchiveEntry(archive, Paths.get(name), stream.readAllBytes()));
+						}
+					}
+				}
+			}
+		}
+		entries.sort(Comparator.comparing(entry -> entry.getPath().toString()));
+		return entries;
+	}
+
+	/**
+	 * 
+	 * @author Mark Gottschling on Oct 17, 2026
+	 *
+	 */
+	public static class ArchiveEntry {
+		private final Path archive;
+		private final Path path;
+		private final byte[] data;
+
+		public ArchiveEntry(Path archive, Path path, byte[] data) {
+			this.archive = archive;
+			this.path = path;
+			this.data = data;
+		}
+
+		public InputStream openStream() {
+			return new ByteArrayInputStream(data);
+		}
+
+		public Path getArchive() {
+			return archive;
+		}
+
+		public Path getPath() {
+			return path;
+		}
+
+		public int getSize() {
+			return data.length;
+		}
+
+		@Override
+		public String toString() {
+			return "ArchiveEntry [archive=" + archive + ", path=" + path + "]";
+		}
+	}
+}
@@ -199,6 +199,11 @@ public class GeneratedChestContext extends GeneratedContext {
 		return chartedFrom != null && chartedFrom != Coords.EMPTY;
 	}
 
+	@Override
+	public boolean isChartable() {
+		return getGeneratedType() == GeneratedType.CHEST && !isDiscovered() && !isCharted();
+	}
+
 	@Override
 	public String toString() {
 		return "ChestGeneratedContext [name=" + name + ", featureType=" + featureType + ", generatedType="
@@ -66,6 +66,14 @@ public class GeneratedContext {
 		}
 	}
 	
+	/**
+	 * Whether this context is a valid target for a treasure map.
+	 * @return
+	 */
+	public boolean isChartable() {
+		return false;
+	}
+	
 	public ICoords getCoords() {
 		return coords;
 	}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.registry.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import mod.gottsch.forge.treasure2.Treasure;
+
+/**
+ * Decodes resources concurrently on a small, bounded pool of daemon threads.
+ * Results are returned in input order so that registration remains deterministic.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class ParallelLoader {
+	private static final int MAX_THREADS = 4;
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private ParallelLoader() {}
+
+	/**
+	 * 
+	 * @param <T>
+	 * @param <R>
+	 * @param inputs
+	 * @param function the decoder. an empty result (or an exception) excludes the input.
+	 * @return the present results, in input order
+	 */
+	public static <T, R> List<R> map(List<T> inputs, Function<T, Optional<R>> function) {
+		List<R> results = new ArrayList<>(inputs.size());
+		if (inputs.isEmpty()) {
+			return results;
+		}
+		int threads = Math.max(1, Math.min(Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1), inputs.size()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Treasure2-Loader-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Optional<R>>> futures = new ArrayList<>(inputs.size());
+			for (T input : inputs) {
+				futures.add(executor.submit(() -> function.apply(input)));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					futures.get(i).get().ifPresent(results::add);
+				}
+				catch(ExecutionException e) {
+					Treasure.LOGGER.error("unable to load resource -> {}", inputs.get(i), e.getCause());
+				}
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			Treasure.LOGGER.error("resource loading was interrupted");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return results;
+	}
+}
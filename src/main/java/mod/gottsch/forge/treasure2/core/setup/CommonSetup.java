@@ -69,6 +69,7 @@ import mod.gottsch.forge.treasure2.core.network.TreasureNetworking;
 import mod.gottsch.forge.treasure2.core.structure.StructureCategory;
 import mod.gottsch.forge.treasure2.core.structure.StructureType;
 import mod.gottsch.forge.treasure2.core.tags.TreasureTags;
+import mod.gottsch.forge.treasure2.core.util.TreasureAccessors;
 import mod.gottsch.forge.treasure2.core.wishable.TreasureWishableHandlers;
 import mod.gottsch.forge.treasure2.core.world.feature.FeatureType;
 import mod.gottsch.forge.treasure2.core.world.feature.gen.TreasureFeatureGenerators;
@@ -99,6 +100,9 @@ public class CommonSetup {
 		// create a treasure2 specific log file
 		Config.instance.addRollingFileAppender(Treasure.MODID);
 		Treasure.LOGGER.debug("file appender created");
+		
+		// resolve the reflective field accessors up front
+		TreasureAccessors.init();
 				
 		/**
 		 * Most resources in Treasure2 are associated with a Rarity. Register rarities
@@ -25,6 +25,7 @@ import mod.gottsch.forge.treasure2.api.TreasureApi;
 import mod.gottsch.forge.treasure2.core.registry.ChestRegistry;
 import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
 import mod.gottsch.forge.treasure2.core.registry.TagRegistry;
+import mod.gottsch.forge.treasure2.core.registry.TreasureTemplateRegistry;
 import mod.gottsch.forge.treasure2.core.registry.WishableRegistry;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
 import mod.gottsch.forge.treasure2.core.util.TreasureDataFixer;
@@ -112,6 +113,9 @@ public class TreasureTags {
 	@SubscribeEvent
 	public static void registerTags(TagsUpdatedEvent event) {		
 		Treasure.LOGGER.info("in tags updated event");
+
+		// biome filters test tags, so the memoized template candidates are stale
+		TreasureTemplateRegistry.invalidateCandidates();
 		
 		// clear key/locks registries
 		KeyLockRegistry.clearKeysByRarity();
@@ -0,0 +1,150 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.util;
+
+import java.util.concurrent.CompletableFuture;
+
+import mod.gottsch.forge.treasure2.Treasure;
+import net.minecraft.Util;
+import net.minecraft.core.QuartPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.MapItem;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.Climate;
+import net.minecraft.world.level.material.MapColor;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+
+/**
+ * An asynchronous equivalent of MapItem.renderBiomePreviewMap().
+ * The biomes are sampled directly from the chunk generator's biome source on a background thread
+ * (no chunk access), and the resulting colors are applied to the map data back on the server thread.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class BiomePreviewMapRenderer {
+	private static final int SIZE = 128;
+
+	private BiomePreviewMapRenderer() {}
+
+	/**
+	 * Schedules the biome preview rendering of the map item. Returns immediately.
+	 * @param level
+	 * @param mapStack
+	 */
+	public static void renderAsync(ServerLevel level, ItemStack mapStack) {
+		MapItemSavedData data = MapItem.getSavedData(mapStack, level);
+		if (data == null || level.dimension() != data.dimension) {
+			return;
+		}
+		int scale = 1 << data.scale;
+		int centerX = data.centerX;
+		int centerZ = data.centerZ;
+		BiomeSource biomeSource = level.getChunkSource().getGenerator().getBiomeSource();
+		Climate.Sampler sampler = level.getChunkSource().randomState().sampler();
+
+		CompletableFuture.supplyAsync(() -> render(biomeSource, sampler, scale, centerX, centerZ), Util.backgroundExecutor())
+		.whenComplete((colors, throwable) -> {
+			if (throwable != null) {
+				Treasure.LOGGER.error("unable to render treasure map biome preview:", throwable);
+				return;
+			}
+			level.getServer().execute(() -> {
+				for (int x = 0; x < SIZE; x++) {
+					for (int z = 0; z < SIZE; z++) {
+						byte color = colors[z * SIZE + x];
+						if (color != 0) {
+							data.setColor(x, z, color);
+						}
+					}
+				}
+			});
+		});
+	}
+
+	/**
+	 * Pure computation - safe to run off the server thread.
+	 * @return the packed map colors, indexed by z * 128 + x. 0 = no color.
+	 */
+	private static byte[] render(BiomeSource biomeSource, Climate.Sampler sampler, int scale, int centerX, int centerZ) {
+		boolean[] watery = new boolean[SIZE * SIZE];
+		int startX = centerX / scale - 64;
+		int startZ = centerZ / scale - 64;
+		int quartY = QuartPos.fromBlock(0);
+
+		for (int z = 0; z < SIZE; z++) {
+			for (int x = 0; x < SIZE; x++) {
+				watery[z * SIZE + x] = biomeSource.getNoiseBiome(
+						QuartPos.fromBlock((startX + x) * scale), quartY, QuartPos.fromBlock((startZ + z) * scale), sampler)
+						.is(BiomeTags.WATER_ON_MAP_OUTLINES);
+			}
+		}
+
+		byte[] colors = new byte[SIZE * SIZE];
+		for (int x = 1; x < SIZE - 1; x++) {
+			for (int z = 1; z < SIZE - 1; z++) {
+				int wateryNeighbours = 0;
+				for (int dx = -1; dx < 2; dx++) {
+					for (int dz = -1; dz < 2; dz++) {
+						if ((dx != 0 || dz != 0) && watery[(z + dz) * SIZE + x + dx]) {
+							wateryNeighbours++;
+						}
+					}
+				}
+
+				MapColor.Brightness brightness = MapColor.Brightness.LOWEST;
+				MapColor mapColor = MapColor.NONE;
+				if (watery[z * SIZE + x]) {
+					mapColor = MapColor.COLOR_ORANGE;
+					if (wateryNeighbours > 7 && z % 2 == 0) {
+						switch ((x + (int)(Mth.sin((float)z) * 7.0F)) / 8 % 5) {
+						case 0:
+						case 4:
+							brightness = MapColor.Brightness.LOW;
+							break;
+						case 1:
+						case 3:
+							brightness = MapColor.Brightness.NORMAL;
+							break;
+						case 2:
+							brightness = MapColor.Brightness.HIGH;
+							break;
+						}
+					} else if (wateryNeighbours > 7) {
+						mapColor = MapColor.NONE;
+					} else if (wateryNeighbours > 5) {
+						brightness = MapColor.Brightness.NORMAL;
+					} else if (wateryNeighbours > 1) {
+						brightness = MapColor.Brightness.LOW;
+					}
+				} else if (wateryNeighbours > 0) {
+					mapColor = MapColor.COLOR_BROWN;
+					brightness = wateryNeighbours > 3 ? MapColor.Brightness.NORMAL : MapColor.Brightness.LOWEST;
+				}
+
+				if (mapColor != MapColor.NONE) {
+					colors[z * SIZE + x] = mapColor.getPackedId(brightness);
+				}
+			}
+		}
+		return colors;
+	}
+}
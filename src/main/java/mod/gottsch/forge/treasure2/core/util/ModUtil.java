@@ -36,7 +36,6 @@ import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
 import net.minecraft.core.Holder;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
@@ -47,8 +46,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.level.NaturalSpawner;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.storage.LevelStorageSource;
-import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
 import net.minecraftforge.registries.ForgeRegistries;
 
 /**
@@ -56,33 +53,6 @@ import net.minecraftforge.registries.ForgeRegistries;
  *
  */
 public class ModUtil {
-	/*
-	MC 1.18.2: net/minecraft/server/MinecraftServer.storageSource
-	Name: l => f_129744_ => storageSource
-	Side: BOTH
-	AT: public net.minecraft.server.MinecraftServer f_129744_ # storageSource
-	Type: net/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess
-	 */
-	private static final String SAVE_FORMAT_LEVEL_SAVE_SRG_NAME = "f_129744_";
-	
-	/*
-	MC 1.18.2: net/minecraft/world/item/Item.maxStackSize
-	Name: d => f_41370_ => maxStackSize
-	Side: BOTH
-	AT: public net.minecraft.world.item.Item f_41370_ # maxStackSize
-	Type: int
-	*/
-	public static final String MAX_STACK_SIZSE_SRG_NAME = "f_41370_";
-	
-	/*
-	 MC 1.19.2: net/minecraft/world/item/Item.maxDamage
-	Name: e => f_41371_ => maxDamage
-	Side: BOTH
-	AT: public net.minecraft.world.item.Item f_41371_ # maxDamage
-	Type: int
-	 */
-	public static final String MAX_DAMAGE_SRG_NAME = "f_41371_";
-	
 	/**
 	 * 
 	 * @param name
@@ -114,11 +84,11 @@ public class ModUtil {
 	}
 
 	public static void setItemMaxStackSize(Item item, int size) {
-		ObfuscationReflectionHelper.setPrivateValue(Item.class, item, size, MAX_STACK_SIZSE_SRG_NAME);
+		TreasureAccessors.setMaxStackSize(item, size);
 	}
 	
 	public static void setItemDurability(Item item, int durability) {
-		ObfuscationReflectionHelper.setPrivateValue(Item.class, item, durability, MAX_DAMAGE_SRG_NAME);
+		TreasureAccessors.setMaxDamage(item, durability);
 		setItemMaxStackSize(item, 1);
 	}
 	
@@ -128,14 +98,8 @@ public class ModUtil {
 	 * @return
 	 */
 	public static Optional<Path> getWorldSaveFolder(ServerLevel level) {
-		Object save = ObfuscationReflectionHelper.getPrivateValue(MinecraftServer.class, level.getServer(), SAVE_FORMAT_LEVEL_SAVE_SRG_NAME);
-		if (save instanceof LevelStorageSource.LevelStorageAccess) {
-			Path path = ((LevelStorageSource.LevelStorageAccess) save)
-					.getWorldDir().resolve(((LevelStorageSource.LevelStorageAccess) save).getLevelId())
-					.resolve("datapacks");
-			return Optional.of(path);
-		}
-		return Optional.empty();
+		return TreasureAccessors.getStorageSource(level.getServer())
+				.map(save -> save.getWorldDir().resolve(save.getLevelId()).resolve("datapacks"));
 	}
 	
 	/**
@@ -0,0 +1,207 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import mod.gottsch.forge.treasure2.Treasure;
+import net.minecraft.core.HolderGetter;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
+import net.minecraft.world.level.storage.LevelStorageSource;
+import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
+
+/**
+ * Central registry of the private field accessors used by Treasure2.
+ * Each field is looked up by its SRG name exactly once, when this class is initialized,
+ * and converted into a MethodHandle so that the call sites no longer go through
+ * ObfuscationReflectionHelper's lookup on every access.
+ * If a field can't be resolved, the failure is logged once at startup and the
+ * accessor reports it on use: getters return an empty Optional, setters throw an
+ * IllegalStateException naming the field.
+ * 
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class TreasureAccessors {
+	/*
+	MC 1.18.2: net/minecraft/server/MinecraftServer.storageSource
+	Name: l => f_129744_ => storageSource
+	Type: net/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess
+	 */
+	public static final String STORAGE_SOURCE_SRG_NAME = "f_129744_";
+	/*
+	MC 1.18.2: net/minecraft/world/item/Item.maxStackSize
+	Name: d => f_41370_ => maxStackSize
+	Type: int
+	*/
+	public static final String MAX_STACK_SIZE_SRG_NAME = "f_41370_";
+	/*
+	MC 1.19.2: net/minecraft/world/item/Item.maxDamage
+	Name: e => f_41371_ => maxDamage
+	Type: int
+	 */
+	public static final String MAX_DAMAGE_SRG_NAME = "f_41371_";
+	/*
+	MC 1.20.1: net/minecraft/world/level/levelgen/structure/templatesystem/StructureTemplateManager.blockLookup
+	Name: k => f_243724_ => blockLookup
+	Type: net/minecraft/core/HolderGetter
+	 */
+	public static final String BLOCK_LOOKUP_SRG_NAME = "f_243724_";
+	/*
+	MC 1.18.2: net/minecraft/world/entity/Mob.lootTable
+	Name: cd => f_21355_ => lootTable
+	Type: net/minecraft/resources/ResourceLocation
+	 */
+	public static final String LOOT_TABLE_SRG_NAME = "f_21355_";
+
+	// (MinecraftServer)LevelStorageAccess
+	private static final MethodHandle GET_STORAGE_SOURCE = getter(MinecraftServer.class, STORAGE_SOURCE_SRG_NAME);
+	// (Item, int)void
+	private static final MethodHandle SET_MAX_STACK_SIZE = setter(Item.class, MAX_STACK_SIZE_SRG_NAME);
+	// (Item, int)void
+	private static final MethodHandle SET_MAX_DAMAGE = setter(Item.class, MAX_DAMAGE_SRG_NAME);
+	// (StructureTemplateManager)HolderGetter
+	private static final MethodHandle GET_BLOCK_LOOKUP = getter(StructureTemplateManager.class, BLOCK_LOOKUP_SRG_NAME);
+	// (Mob, ResourceLocation)void
+	private static final MethodHandle SET_LOOT_TABLE = setter(Mob.class, LOOT_TABLE_SRG_NAME);
+
+	private TreasureAccessors() {}
+
+	/**
+	 * Forces the resolution of all the accessors. Call during mod setup so that any
+	 * mapping problems surface at startup rather than on first use.
+	 */
+	public static void init() {
+		int resolved = 0;
+		for (MethodHandle handle : new MethodHandle[] {GET_STORAGE_SOURCE, SET_MAX_STACK_SIZE, SET_MAX_DAMAGE, GET_BLOCK_LOOKUP, SET_LOOT_TABLE}) {
+			if (handle != null) {
+				resolved++;
+			}
+		}
+		Treasure.LOGGER.debug("resolved {} of 5 reflective accessors", resolved);
+	}
+
+	/**
+	 * 
+	 * @param server
+	 * @return
+	 */
+	public static Optional<LevelStorageSource.LevelStorageAccess> getStorageSource(MinecraftServer server) {
+		if (GET_STORAGE_SOURCE == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.ofNullable((LevelStorageSource.LevelStorageAccess) GET_STORAGE_SOURCE.invokeExact(server));
+		}
+		catch(Throwable e) {
+			Treasure.LOGGER.error("unable to get field -> {}", STORAGE_SOURCE_SRG_NAME, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 
+	 * @param manager
+	 * @return
+	 */
+	public static Optional<HolderGetter<?>> getBlockLookup(StructureTemplateManager manager) {
+		if (GET_BLOCK_LOOKUP == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.ofNullable((HolderGetter<?>) GET_BLOCK_LOOKUP.invokeExact(manager));
+		}
+		catch(Throwable e) {
+			Treasure.LOGGER.error("unable to get field -> {}", BLOCK_LOOKUP_SRG_NAME, e);
+			return Optional.empty();
+		}
+	}
+
+	public static void setMaxStackSize(Item item, int size) {
+		try {
+			requireResolved(SET_MAX_STACK_SIZE, MAX_STACK_SIZE_SRG_NAME).invokeExact(item, size);
+		}
+		catch(IllegalStateException e) {
+			throw e;
+		}
+		catch(Throwable e) {
+			throw new IllegalStateException("unable to set field " + MAX_STACK_SIZE_SRG_NAME, e);
+		}
+	}
+
+	public static void setMaxDamage(Item item, int damage) {
+		try {
+			requireResolved(SET_MAX_DAMAGE, MAX_DAMAGE_SRG_NAME).invokeExact(item, damage);
+		}
+		catch(IllegalStateException e) {
+			throw e;
+		}
+		catch(Throwable e) {
+			throw new IllegalStateException("unable to set field " + MAX_DAMAGE_SRG_NAME, e);
+		}
+	}
+
+	public static void setLootTable(Mob mob, ResourceLocation lootTable) {
+		try {
+			requireResolved(SET_LOOT_TABLE, LOOT_TABLE_SRG_NAME).invokeExact(mob, lootTable);
+		}
+		catch(IllegalStateException e) {
+			throw e;
+		}
+		catch(Throwable e) {
+			throw new IllegalStateException("unable to set field " + LOOT_TABLE_SRG_NAME, e);
+		}
+	}
+
+	private static MethodHandle requireResolved(MethodHandle handle, String srgName) {
+		if (handle == null) {
+			throw new IllegalStateException("reflective accessor for field " + srgName + " was not resolved");
+		}
+		return handle;
+	}
+
+	private static MethodHandle getter(Class<?> clazz, String srgName) {
+		try {
+			Field field = ObfuscationReflectionHelper.findField(clazz, srgName);
+			return MethodHandles.lookup().unreflectGetter(field);
+		}
+		catch(Exception e) {
+			Treasure.LOGGER.error("unable to resolve getter for field -> {}.{}", clazz.getSimpleName(), srgName, e);
+			return null;
+		}
+	}
+
+	private static MethodHandle setter(Class<?> clazz, String srgName) {
+		try {
+			// findField() makes the field accessible, which unreflectSetter() requires for final instance fields
+			Field field = ObfuscationReflectionHelper.findField(clazz, srgName);
+			return MethodHandles.lookup().unreflectSetter(field);
+		}
+		catch(Exception e) {
+			Treasure.LOGGER.error("unable to resolve setter for field -> {}.{}", clazz.getSimpleName(), srgName, e);
+			return null;
+		}
+	}
+}
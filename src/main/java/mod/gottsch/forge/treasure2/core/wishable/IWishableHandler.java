@@ -24,6 +24,7 @@ import mod.gottsch.neo.gottschcore.spatial.Coords;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.forge.treasure2.core.block.IWishingWellBlock;
 import mod.gottsch.forge.treasure2.core.config.Config;
+import mod.gottsch.forge.treasure2.core.random.TreasureRandom;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.Containers;
 import net.minecraft.world.entity.Entity.RemovalReason;
@@ -72,7 +73,7 @@ public interface IWishableHandler {
 	 * @param itemEntity
 	 */
 	default public void doWishable(ItemEntity itemEntity) {
-			Random random = new Random();
+			Random random = TreasureRandom.getRandom();
 			for (int itemIndex = 0; itemIndex < itemEntity.getItem().getCount(); itemIndex++) {
 				// generate an item for each item in the stack
 				ICoords coords = new Coords(itemEntity.blockPosition());
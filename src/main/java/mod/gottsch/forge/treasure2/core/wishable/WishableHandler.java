@@ -36,7 +36,7 @@ import mod.gottsch.forge.treasure2.core.enums.LootTableType;
 import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.item.KeyItem;
 import mod.gottsch.forge.treasure2.core.item.TreasureItems;
-import mod.gottsch.forge.treasure2.core.loot.TreasureLootGenerators;
+import mod.gottsch.forge.treasure2.core.loot.InjectLootBindings;
 import mod.gottsch.forge.treasure2.core.registry.KeyLockRegistry;
 import mod.gottsch.forge.treasure2.core.registry.TreasureLootTableRegistry;
 import mod.gottsch.forge.treasure2.core.registry.WishableRegistry;
@@ -62,6 +62,12 @@ import net.minecraftforge.registries.RegistryObject;
  */
 public class WishableHandler implements IWishableHandler {
 
+	/*
+	 * the pre-resolved inject loot pools. the list is already filtered to the wishables top-level.
+	 */
+	private final InjectLootBindings.Bindings injectLootBindings = InjectLootBindings.register(getClass(), null, 
+			rarity -> buildLootTableList(LootTableType.INJECTS, rarity));
+
 	/**
 	 * 
 	 * @param world
@@ -215,13 +221,14 @@ public class WishableHandler implements IWishableHandler {
 	 * @param lootContext
 	 */
 	public void injectLoot(Level world, Random random, List<ItemStack> itemStacks, IRarity rarity, LootContext lootContext) {
-		List<LootTableShell> injectLootTableShells = buildLootTableList(LootTableType.INJECTS, rarity);
+		// get the pre-resolved "inject" loot pools
+		InjectLootBindings.Binding binding = injectLootBindings.get(world.getServer().getLootData(), rarity);
 		
-		if (!injectLootTableShells.isEmpty()) {
-			Treasure.LOGGER.debug("size of injectable tables -> {}", injectLootTableShells.size());
-			itemStacks.addAll(getInjectedLootItems(world, random, injectLootTableShells, lootContext, p -> {
-				return !p.getName().equalsIgnoreCase(TreasureLootGenerators.TREASURE_POOL);
-			}));
+		if (!binding.isEmpty()) {
+			Treasure.LOGGER.debug("size of injectable tables -> {}", binding.getTableCount());
+			for (LootPool lootPool : binding.getOtherPools()) {
+				lootPool.addRandomItems(itemStacks::add, lootContext);
+			}
 		}
 	}
 	
@@ -0,0 +1,131 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.wishable;
+
+import java.util.Iterator;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import mod.gottsch.forge.treasure2.core.config.Config;
+import mod.gottsch.forge.treasure2.core.item.WealthItem;
+import mod.gottsch.forge.treasure2.core.registry.WishableRegistry;
+import mod.gottsch.forge.treasure2.core.tags.TreasureTags;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Tracks the wishable item entities in flight so that only they are checked for the wish conditions,
+ * instead of scanning the area around every player. Entities are added as they join a level
+ * (tossed or loaded) and dropped once they are removed or unloaded.
+ * Only accessed from the server thread.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class WishableTracker {
+	private static final ReferenceLinkedOpenHashSet<ItemEntity> TRACKED = new ReferenceLinkedOpenHashSet<>();
+	// entities tracked while the tracked set is being iterated, ex. spawned by a wish
+	private static final List<ItemEntity> PENDING = new ObjectArrayList<>();
+	private static boolean checking;
+
+	private WishableTracker() {}
+
+	/**
+	 * 
+	 * @param stack
+	 * @return
+	 */
+	public static boolean isWishable(ItemStack stack) {
+		return !(stack.getItem() instanceof WealthItem) && stack.is(TreasureTags.Items.WISHABLES);
+	}
+
+	/**
+	 * 
+	 * @param itemEntity
+	 */
+	public static void track(ItemEntity itemEntity) {
+		if (itemEntity.level().isClientSide() || !isWishable(itemEntity.getItem())) {
+			return;
+		}
+		if (checking) {
+			PENDING.add(itemEntity);
+		}
+		else {
+			TRACKED.add(itemEntity);
+		}
+	}
+
+	public static void clear() {
+		TRACKED.clear();
+		PENDING.clear();
+	}
+
+	public static int size() {
+		return TRACKED.size();
+	}
+
+	/**
+	 * Checks each tracked item against the wish conditions, 
+	 * ie thrown by a player that is still within scan radius and in a valid location.
+	 */
+	public static void check() {
+		if (TRACKED.isEmpty()) {
+			return;
+		}
+		checking = true;
+		try {
+			Iterator<ItemEntity> iterator = TRACKED.iterator();
+			while (iterator.hasNext()) {
+				ItemEntity item = iterator.next();
+				// removed, unloaded, picked up or changed to a non-wishable
+				if (item.isRemoved() || !isWishable(item.getItem())) {
+					iterator.remove();
+					continue;
+				}
+
+				// if player is the source of the drop and is near the item
+				Entity owner = item.getOwner();
+				if (!(owner instanceof ServerPlayer player) || player.level() != item.level() 
+						|| !player.getBoundingBox().inflate(Config.SERVER.wells.scanForItemRadius.get()).intersects(item.getBoundingBox())) {
+					continue;
+				}
+
+				// get the WishableHandler for the Item
+				IWishableHandler handler = WishableRegistry.getHandler(item.getItem().getItem()).orElse(TreasureWishableHandlers.DEFAULT_WISHABLE_HANDLER);
+				// check if valid location
+				if (handler.isValidLocation(item)) {
+					// generate loot
+					handler.doWishable(item);
+				}
+				if (item.isRemoved()) {
+					iterator.remove();
+				}
+			}
+		}
+		finally {
+			checking = false;
+		}
+		if (!PENDING.isEmpty()) {
+			TRACKED.addAll(PENDING);
+			PENDING.clear();
+		}
+	}
+}
@@ -91,7 +91,7 @@ public interface IChestFeature extends ITreasureFeature {
 	 */
 	default public boolean isRegisteredChestWithinDistance(ServerLevelAccessor world, ResourceLocation dimension, IFeatureType key, ICoords coords, int minDistance) {
 		GeneratedCache<? extends GeneratedContext> registry = DimensionalGeneratedCache.getChestGeneratedCache(dimension, key);
-		if (registry == null || registry.getValues().isEmpty()) {
+		if (registry == null || registry.isEmpty()) {
 			Treasure.LOGGER.debug("unable to locate the GeneratedRegistry or the registry doesn't contain any values");
 			return false;
 		}
@@ -159,9 +159,11 @@ public interface IChestFeature extends ITreasureFeature {
 	default public void updateChestGeneratorRegistry(ResourceLocation dimension, IRarity rarity, IFeatureType featureType) {
 		// update the adjusted weight collection
 		RarityLevelWeightedChestGeneratorRegistry.adjustAllWeightsExcept(dimension, featureType, 1, rarity);
-		Map<IFeatureType, RarityLevelWeightedCollection> map = RarityLevelWeightedChestGeneratorRegistry.RARITY_SELECTOR.get(dimension);
-		RarityLevelWeightedCollection dumpCol = map.get(featureType);
-		List<String> dump = dumpCol.dump();
-		Treasure.LOGGER.debug("weighted collection dump -> {}", dump);
+		if (Treasure.LOGGER.isDebugEnabled()) {
+			Map<IFeatureType, RarityLevelWeightedCollection> map = RarityLevelWeightedChestGeneratorRegistry.RARITY_SELECTOR.get(dimension);
+			RarityLevelWeightedCollection dumpCol = map.get(featureType);
+			List<String> dump = dumpCol.dump();
+			Treasure.LOGGER.debug("weighted collection dump -> {}", dump);
+		}
 	}
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import java.util.Optional;
 import mod.gottsch.neo.gottschcore.spatial.ICoords;
 import mod.gottsch.neo.gottschcore.world.WorldInfo;
 import mod.gottsch.forge.treasure2.Treasure;
+import mod.gottsch.forge.treasure2.core.biome.BiomeFilter;
 import mod.gottsch.forge.treasure2.core.biome.TreasureBiomeHelper;
 import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.util.ModUtil;
@@ -49,6 +50,17 @@ public interface ITreasureFeature {
 		return Config.SERVER.integration.dimensionsWhiteList.get().contains(dimension.toString());
 	}
 
+	/**
+	 * 
+	 * @param world
+	 * @param spawnCoords
+	 * @param filter the compiled biome white/black lists
+	 * @return
+	 */
+	default public boolean meetsBiomeCriteria(ServerLevel world, ICoords spawnCoords, BiomeFilter filter) {
+		return TreasureBiomeHelper.isBiomeAllowed(world.getBiome(spawnCoords.toPos()), filter) != TreasureBiomeHelper.Result.BLACK_LISTED;
+	}
+
 	/**
 	 * 
 	 * @param world
@@ -33,6 +33,9 @@ import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.generator.ChestGeneratorData;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorResult;
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics;
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics.PhaseTimer;
+import mod.gottsch.forge.treasure2.core.metrics.FeaturePhase;
 import mod.gottsch.forge.treasure2.core.persistence.TreasureSavedData;
 import mod.gottsch.forge.treasure2.core.registry.DimensionalGeneratedCache;
 import mod.gottsch.forge.treasure2.core.registry.FeatureGeneratorSelectorRegistry;
@@ -77,95 +80,111 @@ public class TerraneanChestFeature extends ChestFeature {
 	 */
 	@Override
 	public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> context) {
+		PhaseTimer timer = FeatureMetrics.start(FEATURE_TYPE);
 		WorldGenLevel genLevel = context.level();
 		ResourceLocation dimension = WorldInfo.getDimension(genLevel.getLevel());
 //		Treasure.LOGGER.debug("dimension -> {}", dimension.toString());
 		// test the dimension
 		if (!meetsDimensionCriteria(dimension)) { 
-			return false;
+			return timer.reject(FeaturePhase.DIMENSION);
 		}
+		timer.mark(FeaturePhase.DIMENSION);
 
 		// get the chest registry
 		GeneratedCache<GeneratedChestContext> chestCache = DimensionalGeneratedCache.getChestGeneratedCache(dimension, FEATURE_TYPE);
 		if (chestCache == null) {
 			Treasure.LOGGER.debug("GeneratedRegistry is null for dimension & TERRANEAN. This shouldn't be. Should be initialized.");
-			return false;
+			return timer.reject(FeaturePhase.CONFIG);
 		}
 		// get the generator config
 		ChestFeaturesConfiguration config = Config.chestConfig; //Config.chestConfigMap.get(dimension);
 		if (config == null) {
 			Treasure.LOGGER.debug("ChestConfiguration is null. This shouldn't be.");
-			return false;
+			return timer.reject(FeaturePhase.CONFIG);
 		}
 
 		Generator generatorConfig = config.getGenerator(FEATURE_TYPE.getName());
 		if (generatorConfig == null) {
 			Treasure.LOGGER.warn("unable to locate a config for feature type -> {}.", FEATURE_TYPE.getName());
-			return false;
+			return timer.reject(FeaturePhase.CONFIG);
 		}
 
+		timer.mark(FeaturePhase.CONFIG);
+
 		// test the world age
 		if (!meetsWorldAgeCriteria(genLevel, chestCache, generatorConfig)) {
-			return false;
+			return timer.reject(FeaturePhase.WORLD_AGE);
 		}
+		timer.mark(FeaturePhase.WORLD_AGE);
 
 		// TODO add a check against a tag that lists all the build on materials (dirt, stone, cobblestone etc), or a blacklist (bricks, planks, wool, etc)
 
 		// the get first surface y (could be leaves, trunk, water, etc)
 		ICoords spawnCoords = WorldInfo.getDryLandSurfaceCoords(genLevel.getLevel(), context.chunkGenerator(), new Coords(context.origin().offset(WorldInfo.CHUNK_RADIUS - 1, 0, WorldInfo.CHUNK_RADIUS - 1)));
 		if (spawnCoords == Coords.EMPTY) {
-			return false;
+			return timer.reject(FeaturePhase.SURFACE);
 		}
+		timer.mark(FeaturePhase.SURFACE);
 
 		// determine what type to generate
 		IRarity rarity = (IRarity) RarityLevelWeightedChestGeneratorRegistry.getNextRarity(dimension, FEATURE_TYPE);
 		//		Treasure.LOGGER.debug("rarity -> {}", rarity);
 		if (rarity == Rarity.NONE) {
 			Treasure.LOGGER.warn("unable to obtain the next rarity for generator - >{}", FEATURE_TYPE);
-			return false;
+			return timer.reject(FeaturePhase.RARITY);
 		}
 		Optional<ChestRarity> rarityConfig = generatorConfig.getRarity(rarity);
 		if (!rarityConfig.isPresent()) {
 			Treasure.LOGGER.warn("unable to locate rarity config for rarity - >{}", rarity);
-			return false;
+			return timer.reject(FeaturePhase.RARITY);
 		}
+		timer.mark(FeaturePhase.RARITY);
 		// test if the override (global) biome is allowed
 
 		// TODO might have feature generator specific biome and proximity criteria checks. ie Wither
-		if (!meetsBiomeCriteria(genLevel.getLevel(), spawnCoords, rarityConfig.get().getBiomeWhitelist(), rarityConfig.get().getBiomeBlacklist())) {
-			return false;
+		if (!meetsBiomeCriteria(genLevel.getLevel(), spawnCoords, rarityConfig.get().getBiomeFilter())) {
+			return timer.reject(FeaturePhase.BIOME);
 		}
+		timer.mark(FeaturePhase.BIOME);
 
 		// check against all registered chests
 		if (!meetsProximityCriteria(genLevel, dimension, FEATURE_TYPE, spawnCoords, generatorConfig.getMinBlockDistance())) {
-			return false;
-		}			
+			return timer.reject(FeaturePhase.PROXIMITY);
+		}
+		timer.mark(FeaturePhase.PROXIMITY);
 
 		// check if meets the probability criteria. this is used as a randomizer so that chests aren't predictably placed.
 		if (!meetsProbabilityCriteria(context.random(), generatorConfig)) {
 			// place a placeholder chest in the registry
+			timer.reject(FeaturePhase.PROBABILITY);
 			return failAndPlaceholdChest(genLevel, chestCache, rarity, spawnCoords, FEATURE_TYPE);
 		}
 
 		Treasure.LOGGER.debug("spawn coords -> {}", spawnCoords);
 
+		timer.mark(FeaturePhase.PROBABILITY);
+
 		// select the feature generator
 		Optional<IFeatureGeneratorSelector> generatorSelector = FeatureGeneratorSelectorRegistry.getSelector(FEATURE_TYPE, rarity);
 		if (!generatorSelector.isPresent()) {
 			Treasure.LOGGER.warn("unable to obtain a generator selector for rarity - >{}", rarity);
+			timer.reject(FeaturePhase.SELECTION);
 			return failAndPlaceholdChest(genLevel, chestCache, rarity, spawnCoords, FEATURE_TYPE);
 		}
 
 		// select the generator
 		IFeatureGenerator featureGenerator = generatorSelector.get().select();
 		Treasure.LOGGER.debug("feature generator -> {}", featureGenerator.getClass().getSimpleName());
+		timer.mark(FeaturePhase.SELECTION);
 		// call generate
 		Optional<GeneratorResult<ChestGeneratorData>> result = featureGenerator.generate(new FeatureGenContext(context, FEATURE_TYPE), spawnCoords, rarity, rarityConfig.get());
 
 		if (result.isPresent()) {
+			timer.mark(FeaturePhase.GENERATION);
 			cacheGeneratedChest(context.level(), rarity, FEATURE_TYPE, chestCache, result.get());
 			updateChestGeneratorRegistry(dimension, rarity, FEATURE_TYPE);
 		} else {
+			timer.reject(FeaturePhase.GENERATION);
 			return failAndPlaceholdChest(genLevel, chestCache, rarity, spawnCoords, FEATURE_TYPE);
 		}
 
@@ -174,6 +193,7 @@ public class TerraneanChestFeature extends ChestFeature {
 		if (savedData != null) {
 			savedData.setDirty();
 		}
+		timer.mark(FeaturePhase.REGISTRATION);
 		return true;
 	}
 	
@@ -184,7 +204,7 @@ public class TerraneanChestFeature extends ChestFeature {
 	 */
 	protected boolean meetsWorldAgeCriteria(ServerLevelAccessor world, GeneratedCache<GeneratedChestContext> registry, Generator generatorConfig) {
 		// wait count check		
-		if (registry.getValues().isEmpty() && waitChunksCount < generatorConfig.getWaitChunks()) {
+		if (registry.isEmpty() && waitChunksCount < generatorConfig.getWaitChunks()) {
 			Treasure.LOGGER.debug("world is too young");
 			this.waitChunksCount++;
 			return false;
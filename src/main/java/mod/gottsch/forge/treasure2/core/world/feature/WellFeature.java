@@ -36,6 +36,9 @@ import mod.gottsch.forge.treasure2.core.enums.Rarity;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorData;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorResult;
 import mod.gottsch.forge.treasure2.core.generator.well.IWellGenerator;
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics;
+import mod.gottsch.forge.treasure2.core.metrics.FeatureMetrics.PhaseTimer;
+import mod.gottsch.forge.treasure2.core.metrics.FeaturePhase;
 import mod.gottsch.forge.treasure2.core.persistence.TreasureSavedData;
 import mod.gottsch.forge.treasure2.core.registry.WellGeneratorRegistry;
 import mod.gottsch.forge.treasure2.core.registry.support.GeneratedContext;
@@ -68,61 +71,71 @@ public class WellFeature extends Feature<NoneFeatureConfiguration> implements IT
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> context) {
+		PhaseTimer timer = FeatureMetrics.start(FeatureType.WELL);
 		WorldGenLevel genLevel = context.level();
 		ResourceLocation dimension = WorldInfo.getDimension(genLevel.getLevel());
 
 		// test the dimension
 		if (!meetsDimensionCriteria(dimension)) { 
-			return false;
+			return timer.reject(FeaturePhase.DIMENSION);
 		}
+		timer.mark(FeaturePhase.DIMENSION);
 		
 		// get the well registry
-		SimpleDistanceCache<GeneratedContext> cache = FeatureCaches.WELL_CACHE.getDimensionDistanceCache().get(dimension);
+		SimpleDistanceCache<GeneratedContext> cache = FeatureCaches.WELL_CACHE.get(dimension);
 		if (cache == null) {
 			Treasure.LOGGER.debug("GeneratedRegistry is null for dimension & WELL_CACHE. This shouldn't be. Should be initialized.");
-			return false;
+			return timer.reject(FeaturePhase.CONFIG);
 		}
+		timer.mark(FeaturePhase.CONFIG);
 		
 		if (!meetsWorldAgeCriteria(context.level(), cache)) {
 			this.waitChunksCount++;
 			FeatureCaches.WELL_CACHE.setDelayCount(waitChunksCount);
-			return false;
+			return timer.reject(FeaturePhase.WORLD_AGE);
 		}
+		timer.mark(FeaturePhase.WORLD_AGE);
 		
 		// the get first surface y (could be leaves, trunk, water, etc)
 		ICoords spawnCoords = WorldInfo.getDryLandSurfaceCoords(genLevel, context.chunkGenerator(), new Coords(context.origin().offset(WorldInfo.CHUNK_RADIUS - 1, 0, WorldInfo.CHUNK_RADIUS - 1)));
 		if (spawnCoords == Coords.EMPTY) {
-			return false;
+			return timer.reject(FeaturePhase.SURFACE);
 		}
+		timer.mark(FeaturePhase.SURFACE);
 		
 		// TODO might have feature generator specific biome and proximity criteria checks. ie Wither
-		if (!meetsBiomeCriteria(genLevel.getLevel(), spawnCoords,
-				(List<String>)Config.SERVER.wells.biomes.whiteList.get(), (List<String>)Config.SERVER.wells.biomes.blackList.get())) {
-			return false;
+		if (!meetsBiomeCriteria(genLevel.getLevel(), spawnCoords, Config.SERVER.wells.biomes.getFilter())) {
+			return timer.reject(FeaturePhase.BIOME);
 		}
+		timer.mark(FeaturePhase.BIOME);
 		
 		// check against all registered wells
 		if (meetsProximityCriteria(genLevel.getLevel(), spawnCoords, Config.SERVER.wells.minBlockDistance.get(), cache)) {
 			Treasure.LOGGER.trace("The distance to the nearest well is less than the minimun required.");
-			return false;
+			return timer.reject(FeaturePhase.PROXIMITY);
 		}
+		timer.mark(FeaturePhase.PROXIMITY);
 		
 		// NOTE no longer checking against the chest cache
 		
 		// check if meets the probability criteria
 		if (!meetsProbabilityCriteria(context.random())) {
+			timer.reject(FeaturePhase.PROBABILITY);
 			return failAndPlacehold(genLevel, cache, spawnCoords);
 		}
+		timer.mark(FeaturePhase.PROBABILITY);
 
 		// select a well generator
 		IWorldGenContext worldContext = new WorldGenContext(context);
 		IWellGenerator<GeneratorResult<GeneratorData>> wellGenerator = selectGenerator(worldContext, spawnCoords);
+		timer.mark(FeaturePhase.SELECTION);
 		
 		// generate structure
 		Optional<GeneratorResult<GeneratorData>> wellResult = wellGenerator.generate(worldContext, spawnCoords);
 		if (!wellResult.isPresent()) {
-			return false;
+			return timer.reject(FeaturePhase.GENERATION);
 		}
+		timer.mark(FeaturePhase.GENERATION);
 		Treasure.LOGGER.debug("well result -> {}", wellResult.toString());
 		
 		// update cache and mark dirty
@@ -136,7 +149,7 @@ public class WellFeature extends Feature<NoneFeatureConfiguration> implements IT
 		if (savedData != null) {
 			savedData.setDirty();
 		}
-		
+		timer.mark(FeaturePhase.REGISTRATION);
 		return true;
 	}
 	
@@ -149,7 +162,7 @@ public class WellFeature extends Feature<NoneFeatureConfiguration> implements IT
 		// wait count check		
 		// TODO since wells are very rare, a well may not generated before the world is save and player exits
 		// in this case the waitChunksCount would be reset when the world restarts. this value needs to be saved.
-		if (cache.getValues().isEmpty() && waitChunksCount < Config.SERVER.wells.waitChunks.get()) {
+		if (cache.isEmpty() && waitChunksCount < Config.SERVER.wells.waitChunks.get()) {
 			Treasure.LOGGER.debug("world is too young");
 			return false;
 		}
@@ -165,7 +178,7 @@ public class WellFeature extends Feature<NoneFeatureConfiguration> implements IT
 	 * @return
 	 */
 	public boolean meetsProximityCriteria(ServerLevelAccessor world, ICoords coords, int minDistance, SimpleDistanceCache<GeneratedContext> registry) {
-		if (registry == null || registry.getValues().isEmpty()) {
+		if (registry == null || registry.isEmpty()) {
 			Treasure.LOGGER.debug("unable to locate the GeneratedRegistry or the registry doesn't contain any values");
 			return false;
 		}
@@ -41,6 +41,7 @@ import mod.gottsch.forge.treasure2.core.config.ChestFeaturesConfiguration.ChestR
 import mod.gottsch.forge.treasure2.core.config.Config;
 import mod.gottsch.forge.treasure2.core.enums.PitType;
 import mod.gottsch.forge.treasure2.core.enums.SpecialRarity;
+import mod.gottsch.forge.treasure2.core.generator.BlockWriteBuffer;
 import mod.gottsch.forge.treasure2.core.generator.ChestGeneratorData;
 import mod.gottsch.forge.treasure2.core.generator.GeneratorResult;
 import mod.gottsch.forge.treasure2.core.generator.chest.WitherChestGenerator;
@@ -239,6 +240,8 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 //		Instant start = Instant.now();
 		ICoords buildCoords = null;
 		Treasure.LOGGER.debug("build clearing at -> {}", coords.toShortString());
+		// each column of the clearing is visited once, so the writes can be applied together at the end
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
 		// build clearing
 		for (int xOffset = -(CLEARING_RADIUS); xOffset <= CLEARING_RADIUS; xOffset++) {
 			for (int zOffset = -(CLEARING_RADIUS); zOffset <= CLEARING_RADIUS; zOffset++) {
@@ -269,9 +272,9 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 						}
 						if (RandomHelper.checkProbability(context.random(), DIRT_REPLACEMENT_PROBABILITY)) {
 							if (Math.abs(xOffset) < 4 && Math.abs(zOffset) < 4 && !(Math.abs(xOffset) == 3 && Math.abs(zOffset) == 3)) { // TODO magic numbers?!
-								context.level().setBlock(buildCoords.add(0, -1, 0).toPos(), Blocks.PODZOL.defaultBlockState(), 3);
+								buffer.setBlock(buildCoords.add(0, -1, 0), Blocks.PODZOL.defaultBlockState());
 							} else {
-								context.level().setBlock(buildCoords.add(0, -1, 0).toPos(), Blocks.DIRT.defaultBlockState(), 3);
+								buffer.setBlock(buildCoords.add(0, -1, 0), Blocks.DIRT.defaultBlockState());
 							}
 						}
 					}
@@ -286,7 +289,7 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 							&& !(blockContext.getState().getBlock() instanceof ITreasureBlock)) {
 						
 						// remove log
-						context.level().setBlock(climbCoords.toPos(), Blocks.AIR.defaultBlockState(), 3);
+						buffer.setBlock(climbCoords, Blocks.AIR.defaultBlockState());
 						// climb upwards
 						climbCoords = climbCoords.add(0, 1, 0);
 						blockContext = new BlockContext(context.level(), climbCoords);
@@ -296,6 +299,7 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 				}
 			}
 		}
+		buffer.flush();
 //		Instant finish = Instant.now();
 //		Treasure.LOGGER.debug("buildClearing() time -> {}ms", Duration.between(start, finish).toMillis());
 	}
@@ -320,6 +324,7 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 		int maxSize = RandomHelper.randomInt(context.random(), MIN_MAIN_TREE_SIZE, Config.SERVER.witherTree.maxTrunkSize.get());
 
 		// build a 2x2 trunk
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
 		boolean hasLifeBeenAdded = false;
 		for (int trunkIndex = 0; trunkIndex < trunkCoords.length; trunkIndex++) {
 
@@ -332,26 +337,26 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 					}
 
 					if (!hasLifeBeenAdded) {
-						context.level().setBlock(trunkCoords[trunkIndex].add(0, y, 0).toPos(),
+						buffer.setBlock(trunkCoords[trunkIndex].add(0, y, 0),
 								TreasureBlocks.WITHER_SOUL_LOG.get().defaultBlockState()
 								.setValue(WitherSoulLog.APPEARANCE, WitherSoulLog.Appearance.FACE)
-								.setValue(WitherSoulLog.FACING, Direction.SOUTH), 3);
+								.setValue(WitherSoulLog.FACING, Direction.SOUTH));
 						hasLifeBeenAdded = true;
 						continue;
 					}
 				}
 
 				// add the trunk
-				context.level().setBlock(trunkCoords[trunkIndex].add(0, y, 0).toPos(),
-						TreasureBlocks.WITHER_LOG.get().defaultBlockState(), 3);
+				buffer.setBlock(trunkCoords[trunkIndex].add(0, y, 0),
+						TreasureBlocks.WITHER_LOG.get().defaultBlockState());
 
 				// add the decorations (branches, roots, top)
 				if (y == 0) {
-					addRoot(context, trunkCoords[trunkIndex], originalSpawnCoords, trunkMatrix[trunkIndex]);
+					addRoot(context, buffer, trunkCoords[trunkIndex], originalSpawnCoords, trunkMatrix[trunkIndex]);
 				} else if (y == maxSize - 1) {
-					addTop(context, trunkCoords[trunkIndex], originalSpawnCoords, y + 1, topMatrix.get(trunkIndex));
+					addTop(buffer, trunkCoords[trunkIndex], originalSpawnCoords, y + 1, topMatrix.get(trunkIndex));
 				} else if (y >= 3) {
-					addBranch(context, trunkCoords[trunkIndex], originalSpawnCoords, y, maxSize, trunkMatrix[trunkIndex]);
+					addBranch(context, buffer, trunkCoords[trunkIndex], originalSpawnCoords, y, maxSize, trunkMatrix[trunkIndex]);
 				}
 			}
 
@@ -361,6 +366,7 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 				maxSize = Math.max(3, maxSize);
 			}
 		}
+		buffer.flush();
 		Instant finish = Instant.now();
 		Treasure.LOGGER.debug("buildMainTree time -> {}ms", Duration.between(start, finish).toMillis());
 	}
@@ -372,33 +378,35 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 		// determine the size of the main trunk
 		int maxSize = RandomHelper.randomInt(context.random(), MIN_TREE_SIZE, Config.SERVER.witherTree.maxTrunkSize.get());
 
+		BlockWriteBuffer buffer = new BlockWriteBuffer(context.level());
 		boolean hasLifeBeenAdded = false;
 		for (int y = 0; y < maxSize; y++) {
 			if (y == 0) {
 				if (!hasLifeBeenAdded) {
-					context.level().setBlock(coords.add(0, y, 0).toPos(), TreasureBlocks.WITHER_SOUL_LOG.get().defaultBlockState(), 3);
+					buffer.setBlock(coords.add(0, y, 0), TreasureBlocks.WITHER_SOUL_LOG.get().defaultBlockState());
 					hasLifeBeenAdded = true;
 					continue;
 				}
 			}
 
 			// add the trunk
-			context.level().setBlock(coords.add(0, y, 0).toPos(), TreasureBlocks.WITHER_LOG.get().defaultBlockState(), 3);
+			buffer.setBlock(coords.add(0, y, 0), TreasureBlocks.WITHER_LOG.get().defaultBlockState());
 
 			// add the branches/roots
 			if (y == 0) {
-				addRoot(context, coords, originalSpawnCoords, supportTrunkMatrix);
+				addRoot(context, buffer, coords, originalSpawnCoords, supportTrunkMatrix);
 			} else if (y == maxSize - 1) {
-				addTop(context, coords, originalSpawnCoords, y + 1, supportTrunkMatrix.get(context.random().nextInt(supportTrunkMatrix.size())));
+				addTop(buffer, coords, originalSpawnCoords, y + 1, supportTrunkMatrix.get(context.random().nextInt(supportTrunkMatrix.size())));
 			} else if (y > 3) {
-				addBranch(context, coords, originalSpawnCoords, y, maxSize, supportTrunkMatrix);
+				addBranch(context, buffer, coords, originalSpawnCoords, y, maxSize, supportTrunkMatrix);
 			}
 		}
+		buffer.flush();
 		Instant finish = Instant.now();
 		Treasure.LOGGER.debug("buildTree time -> {}ms", Duration.between(start, finish).toMillis());
 	}
 	
-	private void addRoot(IWorldGenContext context, ICoords coords, ICoords originalSpawnCoords, List<Direction> directions) {
+	private void addRoot(IWorldGenContext context, BlockWriteBuffer buffer, ICoords coords, ICoords originalSpawnCoords, List<Direction> directions) {
 		// for each direction
 		for (Direction direction : directions) {
 			if (RandomHelper.checkProbability(context.random(), WITHER_ROOT_PROBABILITY)) {
@@ -408,10 +416,10 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 				if (!isGenerationWithinMaxRadius(newCoords, originalSpawnCoords)) {
 					continue;
 				}
-				BlockContext groundBlockContext = new BlockContext(context.level(), newCoords.down(1));
-				BlockContext replaceBlockContext = new BlockContext(context.level(), newCoords);
-				if (groundBlockContext.isSolid()
-						&& (replaceBlockContext.isAir() || replaceBlockContext.isReplaceable())) {
+				// read through the buffer so the blocks already placed by this tree are seen
+				// positions already claimed by this tree are never replaceable
+				if (buffer.getBlockState(newCoords.down(1)).isSolid() && !buffer.contains(newCoords)
+						&& isReplaceable(buffer.getBlockState(newCoords))) {
 					// rotate the branch in the right direction
 					BlockState state = TreasureBlocks.WITHER_ROOT.get().defaultBlockState()
 							.setValue(WitherRootBlock.FACING, direction)
@@ -419,14 +427,14 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 
 					// add the branch to the world
 					//					world.setBlockState(c.toPos(), state, 3);
-					WorldInfo.setBlock(context.level(), newCoords, state);
+					buffer.setBlock(newCoords, state);
 					//					 Treasure.logger.debug("Wither Tree building root @ " +  coords.toShortString());					
 				}
 			}
 		}
 	}
 	
-	private void addBranch(IWorldGenContext context, ICoords trunkCoords, ICoords originalSpawnCoords, int y, int maxSize,
+	private void addBranch(IWorldGenContext context, BlockWriteBuffer buffer, ICoords trunkCoords, ICoords originalSpawnCoords, int y, int maxSize,
 			List<Direction> directions) {
 		Instant start = Instant.now();
 		int branchSize = 0;// (y <= (maxSize/3)) ? 3 : (y <= (maxSize * 2/3)) ? 2 : 1;
@@ -447,27 +455,25 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 				}
 				for (int segment = 0; segment < branchSize; segment++) {
 					c = c.add(direction, 1);
-					BlockContext replaceBlockContext = new BlockContext(context.level(), c);
-
 					// if there is a branch directly below, don't build
-					if (context.level().getBlockState(c.down(1).toPos()).getBlock() instanceof WitherBranchBlock)
+					if (buffer.getBlockState(c.down(1)).getBlock() instanceof WitherBranchBlock)
 						break;
 
 					// if able to place branch here
-					if (replaceBlockContext.isAir() || replaceBlockContext.isReplaceable()) {
+					if (!buffer.contains(c) && isReplaceable(buffer.getBlockState(c))) {
 						// rotate the branch in the right direction
 						BlockState state = TreasureBlocks.WITHER_BRANCH.get().defaultBlockState()
 								.setValue(WitherBranchBlock.FACING, direction);
 
 						// add the branch to the world
-						WorldInfo.setBlock(context.level(), c, state);
+						buffer.setBlock(c, state);
 
 						// add spanish moss
 						if (RandomHelper.checkProbability(context.random(), SPANISH_MOSS_PROBABILITY)) {
-							replaceBlockContext = new BlockContext(context.level(), c.add(0, /*y*/ - 1, 0));
-							if (replaceBlockContext.isAir() || replaceBlockContext.isReplaceable()) {
-								context.level().setBlock(replaceBlockContext.getCoords().toPos(), TreasureBlocks.SPANISH_MOSS
-										.get().defaultBlockState().setValue(SpanishMossBlock.ACTIVATED, true), 3);
+							ICoords mossCoords = c.add(0, /*y*/ - 1, 0);
+							if (!buffer.contains(mossCoords) && isReplaceable(buffer.getBlockState(mossCoords))) {
+								buffer.setBlock(mossCoords, TreasureBlocks.SPANISH_MOSS
+										.get().defaultBlockState().setValue(SpanishMossBlock.ACTIVATED, true));
 							}
 						}
 					} else {
@@ -480,14 +486,18 @@ public class WitherFeatureGenerator implements IFeatureGenerator {
 //		Treasure.LOGGER.debug("addBranch() time -> {}ms", Duration.between(start, finish).toMillis());
 	}
 	
-	private void addTop(IWorldGenContext context, ICoords coords, ICoords originalSpawnCoords, int y, Direction direction) {
+	private static boolean isReplaceable(BlockState state) {
+		return state.isAir() || state.canBeReplaced();
+	}
+	
+	private void addTop(BlockWriteBuffer buffer, ICoords coords, ICoords originalSpawnCoords, int y, Direction direction) {
 		if (direction != null) {
 			BlockState state = TreasureBlocks.WITHER_BROKEN_LOG.get().defaultBlockState().setValue(WitherRootBlock.FACING, direction);
 			// add the top log to the world
 			//			world.setBlockState(coords.add(0, y, 0).toPos(), state, 3);
 			ICoords topCoords = coords.add(0, y, 0);
 			if (isGenerationWithinMaxRadius(topCoords, originalSpawnCoords)) {
-				WorldInfo.setBlock(context.level(), coords.add(0, y, 0), state);
+				buffer.setBlock(topCoords, state);
 			}
 		}
 	}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.world.proximity;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * A callback registered with the PlayerProximityService.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+@FunctionalInterface
+public interface IProximityTrigger {
+
+	/**
+	 * Called on the server thread when a player is within the proximity of the trigger.
+	 * @param level
+	 * @param player the first player found within range
+	 * @return whether the trigger should remain registered
+	 */
+	boolean onProximity(ServerLevel level, Player player);
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of  Treasure2.
+ * Copyright (c) 2026 Mark Gottschling (gottsch)
+ *
+ * Treasure2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Treasure2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Treasure2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+package mod.gottsch.forge.treasure2.core.world.proximity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Central player proximity detection for block entities.
+ * Triggers are indexed by chunk. Once per level tick the players are bucketed by chunk and only
+ * the triggers in chunks within reach of a player are tested, so the cost no longer scales with
+ * (triggers x players) and registered block entities don't need to tick at all.
+ * All methods are expected to be called on the server thread.
+ *
+ * @author Mark Gottschling on Oct 17, 2026
+ *
+ */
+public final class PlayerProximityService {
+	private static final Map<ResourceKey<Level>, LevelTriggers> LEVELS = new HashMap<>();
+
+	private PlayerProximityService() {}
+
+	/**
+	 * Registers (or replaces) the trigger at the position.
+	 * @param level
+	 * @param pos
+	 * @param proximity the trigger radius in blocks
+	 * @param trigger
+	 */
+	public static void register(ServerLevel level, BlockPos pos, double proximity, IProximityTrigger trigger) {
+		LEVELS.computeIfAbsent(level.dimension(), key -> new LevelTriggers()).put(pos.immutable(), proximity, trigger);
+	}
+
+	/**
+	 * 
+	 * @param level
+	 * @param pos
+	 */
+	public static void unregister(ServerLevel level, BlockPos pos) {
+		LevelTriggers triggers = LEVELS.get(level.dimension());
+		if (triggers != null) {
+			triggers.remove(pos.asLong());
+		}
+	}
+
+	/**
+	 * 
+	 * @param level
+	 */
+	public static void tick(ServerLevel level) {
+		LevelTriggers triggers = LEVELS.get(level.dimension());
+		if (triggers == null || triggers.isEmpty() || level.players().isEmpty()) {
+			return;
+		}
+		triggers.tick(level);
+	}
+
+	/**
+	 * 
+	 * @param level
+	 */
+	public static void clear(ServerLevel level) {
+		LEVELS.remove(level.dimension());
+	}
+
+	/**
+	 * 
+	 * @param level
+	 * @return the number of registered triggers in the level
+	 */
+	public static int size(ServerLevel level) {
+		LevelTriggers triggers = LEVELS.get(level.dimension());
+		return triggers == null ? 0 : triggers.size;
+	}
+
+	/*
+	 * 
+	 */
+	private static class Registration {
+		private final BlockPos pos;
+		private final double proximitySq;
+		private final IProximityTrigger trigger;
+
+		Registration(BlockPos pos, double proximity, IProximityTrigger trigger) {
+			this.pos = pos;
+			// same minimum as the original per-block entity check
+			this.proximitySq = Math.max(1D, proximity * proximity);
+			this.trigger = trigger;
+		}
+	}
+
+	/*
+	 * 
+	 */
+	private static class LevelTriggers {
+		// chunk key -> (block pos key -> registration)
+		private final Long2ObjectMap<Long2ObjectMap<Registration>> chunks = new Long2ObjectOpenHashMap<>();
+		private int size;
+		// the largest radius registered, in chunks. only grows until the level is cleared.
+		private int chunkReach;
+
+		void put(BlockPos pos, double proximity, IProximityTrigger trigger) {
+			long chunkKey = ChunkPos.asLong(pos);
+			Long2ObjectMap<Registration> registrations = chunks.get(chunkKey);
+			if (registrations == null) {
+				registrations = new Long2ObjectOpenHashMap<>();
+				chunks.put(chunkKey, registrations);
+			}
+			if (registrations.put(pos.asLong(), new Registration(pos, proximity, trigger)) == null) {
+				size++;
+			}
+			chunkReach = Math.max(chunkReach, Mth.ceil(Math.max(1D, proximity) / 16D));
+		}
+
+		void remove(long posKey) {
+			long chunkKey = ChunkPos.asLong(BlockPos.getX(posKey) >> 4, BlockPos.getZ(posKey) >> 4);
+			Long2ObjectMap<Registration> registrations = chunks.get(chunkKey);
+			if (registrations != null && registrations.remove(posKey) != null) {
+				size--;
+				if (registrations.isEmpty()) {
+					chunks.remove(chunkKey);
+				}
+			}
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void tick(ServerLevel level) {
+			// bucket the players by chunk
+			Long2ObjectMap<List<ServerPlayer>> playerChunks = new Long2ObjectOpenHashMap<>();
+			for (ServerPlayer player : level.players()) {
+				long key = ChunkPos.asLong(player.getBlockX() >> 4, player.getBlockZ() >> 4);
+				List<ServerPlayer> bucket = playerChunks.get(key);
+				if (bucket == null) {
+					bucket = new ArrayList<>(1);
+					playerChunks.put(key, bucket);
+				}
+				bucket.add(player);
+			}
+
+			// find the triggers within reach of each player bucket
+			Map<Registration, ServerPlayer> fired = new LinkedHashMap<>();
+			for (Long2ObjectMap.Entry<List<ServerPlayer>> bucket : playerChunks.long2ObjectEntrySet()) {
+				int chunkX = ChunkPos.getX(bucket.getLongKey());
+				int chunkZ = ChunkPos.getZ(bucket.getLongKey());
+				for (int x = chunkX - chunkReach; x <= chunkX + chunkReach; x++) {
+					for (int z = chunkZ - chunkReach; z <= chunkZ + chunkReach; z++) {
+						Long2ObjectMap<Registration> registrations = chunks.get(ChunkPos.asLong(x, z));
+						if (registrations == null) {
+							continue;
+						}
+						for (Registration registration : registrations.values()) {
+							if (fired.containsKey(registration)) {
+								continue;
+							}
+							for (ServerPlayer player : bucket.getValue()) {
+								if (player.distanceToSqr(registration.pos.getX(), registration.pos.getY(), registration.pos.getZ()) < registration.proximitySq) {
+									fired.put(registration, player);
+									break;
+								}
+							}
+						}
+					}
+				}
+			}
+
+			// notify outside of the iteration as triggers may (un)register while executing
+			fired.forEach((registration, player) -> {
+				if (!registration.trigger.onProximity(level, player)) {
+					Long2ObjectMap<Registration> registrations = chunks.get(ChunkPos.asLong(registration.pos));
+					// only remove if it hasn't been replaced during the callback
+					if (registrations != null && registrations.get(registration.pos.asLong()) == registration) {
+						remove(registration.pos.asLong());
+					}
+				}
+			});
+		}
+	}
+}